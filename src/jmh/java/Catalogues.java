@@ -0,0 +1,38 @@
+import models.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Builds reproducible, randomly mixed recycling centre catalogues for the benchmarks.
+final class Catalogues {
+
+    private static final long SEED = 42L;
+
+    private Catalogues() {
+    }
+
+    static List<Recycling> random(int centreCount) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Location[] locations = Location.values();
+        List<Recycling> centres = new ArrayList<>(centreCount);
+
+        for (int i = 0; i < centreCount; i++) {
+            Location location = locations[random.nextInt(locations.length)];
+            int yearsActive = 1 + random.nextInt(40);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    centres.add(new Alpha(location, yearsActive));
+                    break;
+                case 1:
+                    centres.add(new Beta(location, yearsActive));
+                    break;
+                default:
+                    centres.add(new Gamma(location, yearsActive));
+            }
+        }
+
+        return centres;
+    }
+}
@@ -0,0 +1,44 @@
+import models.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Duration stages of the Utils pipeline, by initial waste.
+// Run with "-prof gc" to report the allocation rate of each stage.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurationBenchmark {
+
+    @Param({"20", "5000", "100000", "10000000"})
+    public double initialWaste;
+
+    private Historic historic;
+    private HistoricSnapshot snapshot;
+    private Recycling centre;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.historic = new Historic(Location.A, this.initialWaste);
+        this.snapshot = this.historic.snapshot();
+        this.centre = new Gamma(Location.B, 5);
+    }
+
+    @Benchmark
+    public double calculateTravelDuration() {
+        return Utils.calculateTravelDuration(this.historic, this.centre);
+    }
+
+    @Benchmark
+    public double calculateProcessDuration() {
+        return Utils.calculateProcessDuration(this.historic, this.centre);
+    }
+
+    @Benchmark
+    public double calculateSnapshotDuration() {
+        return Utils.calculateTravelDuration(this.snapshot, this.centre) + Utils.calculateProcessDuration(this.snapshot, this.centre);
+    }
+}
@@ -0,0 +1,38 @@
+import models.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The whole runScenario path: viability, selection, travel and process durations.
+// Run with "-prof gc" to report the allocation rate.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ScenarioBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int centreCount;
+
+    @Param({"20", "5000", "10000000"})
+    public double initialWaste;
+
+    private Historic historic;
+    private List<Recycling> centres;
+
+    // The pipeline modifies neither the historic site nor the centre list, so both are built once per trial and the
+    // measurement covers runScenario alone.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.historic = new Historic(Location.A, this.initialWaste);
+        this.centres = List.copyOf(Catalogues.random(this.centreCount));
+    }
+
+    @Benchmark
+    public ScenarioResult runScenario() {
+        return ScenarioRunner.run(this.historic, this.centres);
+    }
+}
@@ -0,0 +1,60 @@
+import models.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Centre selection stages of the Utils pipeline, by catalogue size.
+// Run with "-prof gc" to report the allocation rate of each stage.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class SelectionBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int centreCount;
+
+    // 20 m3 has no metallic waste, so Gamma centres drop out; the larger volumes are above the metallic threshold,
+    // so Gamma centres stay in the candidate set.
+    @Param({"20", "5000", "10000000"})
+    public double initialWaste;
+
+    private Historic historic;
+    private List<Recycling> centres;
+    private List<Recycling> viableCentres;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.historic = new Historic(Location.A, this.initialWaste);
+        this.centres = List.copyOf(Catalogues.random(this.centreCount));
+        this.viableCentres = Utils.findViableCentres(this.historic, this.centres);
+    }
+
+    @Benchmark
+    public List<Recycling> findViableCentres() {
+        return Utils.findViableCentres(this.historic, this.centres);
+    }
+
+    @Benchmark
+    public List<Recycling> findNearestCentres() {
+        return Utils.findNearestCentres(this.historic, this.viableCentres);
+    }
+
+    @Benchmark
+    public List<Recycling> findLeastYearsActive() {
+        return Utils.findLeastYearsActive(this.viableCentres);
+    }
+
+    @Benchmark
+    public List<Recycling> findHighestGenerations() {
+        return Utils.findHighestGenerations(this.viableCentres);
+    }
+
+    @Benchmark
+    public Recycling findOptimalCentre() {
+        return Utils.findOptimalCentre(this.historic, this.viableCentres);
+    }
+}
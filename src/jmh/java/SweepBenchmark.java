@@ -0,0 +1,80 @@
+import models.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sensitivity sweep over initial waste: one Historic per point through Utils, against the struct-of-arrays kernels.
+// Run with "-prof gc" to compare allocation rates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SweepBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int points;
+
+    private double[] initialWaste;
+    private int[] historicLocations;
+    private int[] centreLocations;
+    private int[] generations;
+    private double[] travelDurations;
+    private double[] processDurations;
+    private Recycling[] centres;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        Location[] locations = Location.values();
+        this.initialWaste = new double[this.points];
+        this.historicLocations = new int[this.points];
+        this.centreLocations = new int[this.points];
+        this.generations = new int[this.points];
+        this.travelDurations = new double[this.points];
+        this.processDurations = new double[this.points];
+        this.centres = new Recycling[this.points];
+
+        for (int i = 0; i < this.points; i++) {
+            this.initialWaste[i] = random.nextDouble(20.0, 100_000.0);
+            this.historicLocations[i] = random.nextInt(locations.length);
+            this.centreLocations[i] = random.nextInt(locations.length);
+            this.generations[i] = random.nextInt(3);
+            Location location = locations[this.centreLocations[i]];
+            this.centres[i] = switch (this.generations[i]) {
+                case 0 -> new Alpha(location, 5);
+                case 1 -> new Beta(location, 5);
+                default -> new Gamma(location, 5);
+            };
+        }
+    }
+
+    @Benchmark
+    public double objects() {
+        Location[] locations = Location.values();
+        double total = 0.0;
+        for (int i = 0; i < this.points; i++) {
+            Historic historic = new Historic(locations[this.historicLocations[i]], this.initialWaste[i]);
+            total += Utils.calculateProcessDuration(historic, this.centres[i]);
+            total += Utils.calculateTravelDuration(historic, this.centres[i]);
+        }
+
+        return total;
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        WasteSweep.evaluateScalar(0, this.points, this.initialWaste, this.historicLocations, this.centreLocations,
+                this.generations, this.travelDurations, this.processDurations);
+        return this.processDurations;
+    }
+
+    @Benchmark
+    public double[] vectorised() {
+        WasteSweep.evaluate(this.initialWaste, this.historicLocations, this.centreLocations, this.generations,
+                this.travelDurations, this.processDurations);
+        return this.processDurations;
+    }
+}
@@ -0,0 +1,138 @@
+import models.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+// Runs many scenarios from a file without any prompts. Each non-blank line is one scenario:
+//
+//     <historic location> <initial waste>; <location> <years active> <generation>, <location> <years active> <generation>, ...
+//
+// e.g. "A 5000; A 12 Alpha, B 10 Beta". Lines starting with '#' are ignored.
+// Scenarios run on a work-stealing pool, and results are written in input order as they complete.
+// Pass a ScenarioCache to reuse the results of repeated scenarios for the length of the batch; there is none by default.
+public final class BatchRunner {
+
+    // How many scenarios each worker may have queued ahead of the writer.
+    private static final int SCENARIOS_IN_FLIGHT_PER_WORKER = 4;
+
+    private BatchRunner() {
+    }
+
+    public static int run(Path input, PrintStream out) throws IOException {
+        return run(input, out, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static int run(Path input, PrintStream out, int parallelism) throws IOException {
+        return run(input, out, parallelism, null);
+    }
+
+    public static int run(Path input, PrintStream out, int parallelism, ScenarioCache cache) throws IOException {
+        // Each parsed scenario is only run once, so select straight from its list rather than building an index.
+        Function<ScenarioConfiguration, ScenarioResult> runner = cache != null
+                ? cache::run
+                : config -> ScenarioRunner.run(config.getHistoric(), config.getRecycling());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Deque<ForkJoinTask<String>> pending = new ArrayDeque<>();
+        int maxPending = parallelism * SCENARIOS_IN_FLIGHT_PER_WORKER;
+        int scenarios = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(input)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String definition = line.strip();
+                if (definition.isEmpty() || definition.startsWith("#")) {
+                    continue;
+                }
+
+                int scenarioNumber = ++scenarios;
+                pending.add(pool.submit(() -> runScenario(scenarioNumber, definition, runner)));
+
+                // Write the oldest result before reading further, so memory stays bounded however long the file is.
+                if (pending.size() >= maxPending) {
+                    out.print(pending.poll().join());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                out.print(pending.poll().join());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        out.flush();
+        return scenarios;
+    }
+
+    static String runScenario(int scenarioNumber, String definition) {
+        // Each parsed scenario is only run once, so select straight from its list rather than building an index.
+        return runScenario(scenarioNumber, definition, config -> ScenarioRunner.run(config.getHistoric(), config.getRecycling()));
+    }
+
+    static String runScenario(int scenarioNumber, String definition, Function<ScenarioConfiguration, ScenarioResult> runner) {
+        try {
+            ScenarioResult result = runner.apply(parseScenario(definition));
+            return formatResult(scenarioNumber, result);
+        } catch (RuntimeException e) {
+            return String.format("Scenario %d failed: %s%n---------------------------------------------%n", scenarioNumber, e);
+        }
+    }
+
+    static ScenarioConfiguration parseScenario(String definition) {
+        String[] parts = definition.split(";", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected '<historic>; <centres>' but got: " + definition);
+        }
+
+        String[] historicFields = parts[0].trim().split("\\s+");
+        if (historicFields.length != 2) {
+            throw new IllegalArgumentException("Expected '<location> <initial waste>' but got: " + parts[0].trim());
+        }
+        Historic historic = new Historic(Location.valueOf(historicFields[0]), Double.parseDouble(historicFields[1]));
+
+        List<Recycling> recycling = new ArrayList<>();
+        for (String centre : parts[1].split(",")) {
+            String[] centreFields = centre.trim().split("\\s+");
+            if (centreFields.length != 3) {
+                throw new IllegalArgumentException("Expected '<location> <years active> <generation>' but got: " + centre.trim());
+            }
+            recycling.add(createCentre(Location.valueOf(centreFields[0]), Integer.parseInt(centreFields[1]), centreFields[2]));
+        }
+
+        return new ScenarioConfiguration(historic, recycling);
+    }
+
+    static Recycling createCentre(Location location, int yearsActive, String generation) {
+        switch (generation) {
+            case "Alpha":
+                return new Alpha(location, yearsActive);
+            case "Beta":
+                return new Beta(location, yearsActive);
+            case "Gamma":
+                return new Gamma(location, yearsActive);
+            default:
+                throw new IllegalArgumentException("Unknown generation: " + generation);
+        }
+    }
+
+    // Appendix F: Scenario Completion Text, preceded by the scenario number.
+    static String formatResult(int scenarioNumber, ScenarioResult result) {
+        return String.format("Scenario %d:%n", scenarioNumber)
+                + String.format("Running scenario...%n%n")
+                + String.format("Scenario successfully completed. Results:%n%n")
+                + String.format("Time to fill recycling centre: %.2f hours; ", result.getTravelDuration())
+                + String.format("Time to process the waste after delivery: %.2f hours.%n%n", result.getProcessDuration())
+                + String.format("The total duration is therefore: %.2f hours.%n", result.getTotalDuration())
+                + String.format("---------------------------------------------%n");
+    }
+}
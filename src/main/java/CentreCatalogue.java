@@ -0,0 +1,246 @@
+import models.Alpha;
+import models.Beta;
+import models.Gamma;
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.LongStream;
+
+// A read-only catalogue of recycling centres held in a memory-mapped file rather than as Recycling objects.
+//
+// The file is a 16-byte header (magic, version, centre count) followed by one 8-byte record per centre:
+// years active (int), location ordinal (byte), generation ordinal (byte) and two bytes of padding.
+// Opening a catalogue maps the file and checks every record's ordinals once, without creating any objects per centre,
+// so it takes the same heap however many centres it holds; viability and optimal selection read the records straight
+// from the mapping and can trust the ordinals they find there.
+//
+// The mapping is shared, so one catalogue can be queried from many threads until it is closed.
+public final class CentreCatalogue implements AutoCloseable {
+
+    private static final int MAGIC = 0x43435452; // "CCTR"
+    private static final int VERSION = 1;
+
+    private static final StructLayout HEADER = MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("magic"),
+            ValueLayout.JAVA_INT.withName("version"),
+            ValueLayout.JAVA_LONG.withName("count"));
+
+    private static final StructLayout RECORD = MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("yearsActive"),
+            ValueLayout.JAVA_BYTE.withName("location"),
+            ValueLayout.JAVA_BYTE.withName("generation"),
+            MemoryLayout.paddingLayout(2));
+
+    private static final long MAGIC_OFFSET = offset(HEADER, "magic");
+    private static final long VERSION_OFFSET = offset(HEADER, "version");
+    private static final long COUNT_OFFSET = offset(HEADER, "count");
+    private static final long YEARS_ACTIVE_OFFSET = offset(RECORD, "yearsActive");
+    private static final long LOCATION_OFFSET = offset(RECORD, "location");
+    private static final long GENERATION_OFFSET = offset(RECORD, "generation");
+
+    private static final Location[] LOCATIONS = Location.values();
+    private static final Generation[] GENERATIONS = Generation.values();
+
+    private final Arena arena;
+    private final MemorySegment records;
+    private final long size;
+
+    private CentreCatalogue(Arena arena, MemorySegment records, long size) {
+        this.arena = arena;
+        this.records = records;
+        this.size = size;
+    }
+
+    public static void write(Path file, List<Recycling> centres) throws IOException {
+        long bytes = HEADER.byteSize() + centres.size() * RECORD.byteSize();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes, arena);
+            segment.set(ValueLayout.JAVA_INT, MAGIC_OFFSET, MAGIC);
+            segment.set(ValueLayout.JAVA_INT, VERSION_OFFSET, VERSION);
+            segment.set(ValueLayout.JAVA_LONG, COUNT_OFFSET, centres.size());
+
+            long offset = HEADER.byteSize();
+            for (Recycling centre : centres) {
+                segment.set(ValueLayout.JAVA_INT, offset + YEARS_ACTIVE_OFFSET, centre.getYearsActive());
+                segment.set(ValueLayout.JAVA_BYTE, offset + LOCATION_OFFSET, (byte) centre.getLocation().ordinal());
+                segment.set(ValueLayout.JAVA_BYTE, offset + GENERATION_OFFSET, (byte) centre.getGenerationType().ordinal());
+                offset += RECORD.byteSize();
+            }
+
+            segment.force();
+        }
+    }
+
+    public static CentreCatalogue open(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes < HEADER.byteSize()) {
+                throw new IOException("Not a centre catalogue: " + file);
+            }
+
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes, arena);
+            long size = segment.get(ValueLayout.JAVA_LONG, COUNT_OFFSET);
+            // The count is compared with what the file can hold rather than multiplied out, so a forged count cannot
+            // overflow into a matching length.
+            long recordBytes = bytes - HEADER.byteSize();
+            if (segment.get(ValueLayout.JAVA_INT, MAGIC_OFFSET) != MAGIC
+                    || segment.get(ValueLayout.JAVA_INT, VERSION_OFFSET) != VERSION
+                    || recordBytes % RECORD.byteSize() != 0 || size != recordBytes / RECORD.byteSize()) {
+                throw new IOException("Not a centre catalogue: " + file);
+            }
+
+            MemorySegment records = segment.asSlice(HEADER.byteSize());
+            if (!hasValidOrdinals(records, size)) {
+                throw new IOException("Not a centre catalogue: " + file);
+            }
+
+            return new CentreCatalogue(arena, records, size);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    public int getYearsActive(long index) {
+        return this.records.get(ValueLayout.JAVA_INT, checkIndex(index) * RECORD.byteSize() + YEARS_ACTIVE_OFFSET);
+    }
+
+    public Location getLocation(long index) {
+        return LOCATIONS[this.records.get(ValueLayout.JAVA_BYTE, checkIndex(index) * RECORD.byteSize() + LOCATION_OFFSET)];
+    }
+
+    public Generation getGeneration(long index) {
+        return GENERATIONS[this.records.get(ValueLayout.JAVA_BYTE, checkIndex(index) * RECORD.byteSize() + GENERATION_OFFSET)];
+    }
+
+    // Creates a Recycling object for one record, e.g. to pass the selected centre on to ScenarioRunner.
+    public Recycling get(long index) {
+        Location location = getLocation(index);
+        int yearsActive = getYearsActive(index);
+
+        return switch (getGeneration(index)) {
+            case ALPHA -> new Alpha(location, yearsActive);
+            case BETA -> new Beta(location, yearsActive);
+            case GAMMA -> new Gamma(location, yearsActive);
+        };
+    }
+
+    // Indexes of the viable centres, in catalogue order, read lazily from the mapping.
+    public LongStream viableIndexes(Historic historic) {
+        boolean[] viable = viableRoutes(historic.getLocation(), historic.getMetallic() > 0);
+
+        return LongStream.range(0, this.size)
+                .filter(index -> viable[routeAt(index * RECORD.byteSize())]);
+    }
+
+    // Index of the optimal viable centre, using the same rules as Utils.findOptimalViableCentre, or -1 if none.
+    public long findOptimalCentre(Historic historic) {
+        Location origin = historic.getLocation();
+        boolean[] viable = viableRoutes(origin, historic.getMetallic() > 0);
+        double[] travelTimes = new double[LOCATIONS.length];
+        for (Location location : LOCATIONS) {
+            travelTimes[location.ordinal()] = Utils.TRAVEL_TIMES.between(origin, location);
+        }
+
+        long optimalIndex = -1;
+        double optimalTravelTime = 0.0;
+        int optimalYearsActive = 0;
+        int optimalGeneration = 0;
+
+        long offset = 0;
+        for (long index = 0; index < this.size; index++, offset += RECORD.byteSize()) {
+            if (!viable[routeAt(offset)]) {
+                continue;
+            }
+
+            double travelTime = travelTimes[this.records.get(ValueLayout.JAVA_BYTE, offset + LOCATION_OFFSET)];
+            int yearsActive = this.records.get(ValueLayout.JAVA_INT, offset + YEARS_ACTIVE_OFFSET);
+            int generation = this.records.get(ValueLayout.JAVA_BYTE, offset + GENERATION_OFFSET);
+
+            // Nearest first, then least years active, then highest generation. Ties keep the earlier centre.
+            boolean better = optimalIndex == -1
+                    || travelTime < optimalTravelTime
+                    || (travelTime == optimalTravelTime && (yearsActive < optimalYearsActive
+                    || (yearsActive == optimalYearsActive && generation > optimalGeneration)));
+
+            if (better) {
+                optimalIndex = index;
+                optimalTravelTime = travelTime;
+                optimalYearsActive = yearsActive;
+                optimalGeneration = generation;
+            }
+        }
+
+        return optimalIndex;
+    }
+
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    // Viability only depends on the centre's location and generation, so it is worked out once per pair.
+    private static boolean[] viableRoutes(Location origin, boolean metallicPresent) {
+        boolean[] viable = new boolean[LOCATIONS.length * GENERATIONS.length];
+        for (Location location : LOCATIONS) {
+            boolean inRange = Utils.TRAVEL_TIMES.between(origin, location) <= Utils.MAX_VIABLE_TRAVEL_TIME;
+            for (Generation generation : GENERATIONS) {
+                viable[location.ordinal() * GENERATIONS.length + generation.ordinal()] =
+                        inRange && (metallicPresent || generation != Generation.GAMMA);
+            }
+        }
+
+        return viable;
+    }
+
+    // Every location and generation ordinal must name a real constant, or lookups would fail or pick the wrong route.
+    private static boolean hasValidOrdinals(MemorySegment records, long size) {
+        long offset = 0;
+        for (long index = 0; index < size; index++, offset += RECORD.byteSize()) {
+            int location = records.get(ValueLayout.JAVA_BYTE, offset + LOCATION_OFFSET);
+            int generation = records.get(ValueLayout.JAVA_BYTE, offset + GENERATION_OFFSET);
+            if (location < 0 || location >= LOCATIONS.length || generation < 0 || generation >= GENERATIONS.length) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int routeAt(long offset) {
+        return this.records.get(ValueLayout.JAVA_BYTE, offset + LOCATION_OFFSET) * GENERATIONS.length
+                + this.records.get(ValueLayout.JAVA_BYTE, offset + GENERATION_OFFSET);
+    }
+
+    private long checkIndex(long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Centre index out of range: " + index);
+        }
+
+        return index;
+    }
+
+    private static long offset(StructLayout layout, String name) {
+        return layout.byteOffset(MemoryLayout.PathElement.groupElement(name));
+    }
+}
@@ -0,0 +1,161 @@
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Keeps the best recycling centre (least years active, earliest added) for every location and generation.
+// Because the optimal centre only depends on the historic location and whether metallic waste is present,
+// queries just compare these few per-bucket winners and take constant time however many centres are indexed.
+// Each bucket is ordered, so adding or removing a centre takes logarithmic time.
+// Queries are lock-free and can run alongside add() and remove().
+public final class CentreIndex {
+
+    private static final int GENERATIONS = Generation.values().length;
+    private static final Location[] LOCATIONS = Location.values();
+
+    private static final Comparator<Entry> BY_YEARS_THEN_ADDED = Comparator
+            .comparingInt((Entry entry) -> entry.centre().getYearsActive())
+            .thenComparingLong(Entry::sequence);
+
+    private final AtomicReferenceArray<Entry> best = new AtomicReferenceArray<>(LOCATIONS.length * GENERATIONS);
+    private final TreeSet<Entry>[] buckets = newBuckets();
+    private final Map<Recycling, ArrayDeque<Entry>> entries = new IdentityHashMap<>();
+    private long nextSequence;
+    private int size;
+
+    public CentreIndex() {
+    }
+
+    public CentreIndex(List<Recycling> centres) {
+        for (Recycling centre : centres) {
+            add(centre);
+        }
+    }
+
+    public synchronized void add(Recycling centre) {
+        Entry entry = new Entry(centre, this.nextSequence++);
+        int bucket = bucket(centre.getLocation(), centre.getGenerationType());
+
+        this.buckets[bucket].add(entry);
+        this.entries.computeIfAbsent(centre, c -> new ArrayDeque<>(1)).addLast(entry);
+        this.best.set(bucket, this.buckets[bucket].first());
+        this.size++;
+    }
+
+    // Removes the earliest added occurrence of the centre. Returns false if it is not indexed.
+    public synchronized boolean remove(Recycling centre) {
+        ArrayDeque<Entry> occurrences = this.entries.get(centre);
+        if (occurrences == null) {
+            return false;
+        }
+
+        Entry entry = occurrences.pollFirst();
+        if (occurrences.isEmpty()) {
+            this.entries.remove(centre);
+        }
+
+        int bucket = bucket(centre.getLocation(), centre.getGenerationType());
+        this.buckets[bucket].remove(entry);
+        this.best.set(bucket, this.buckets[bucket].isEmpty() ? null : this.buckets[bucket].first());
+        this.size--;
+        return true;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public Recycling findOptimalCentre(Historic historic) {
+        return findOptimalCentre(historic.getLocation(), historic.getMetallic() > 0);
+    }
+
+    // Same choice as Utils.findOptimalViableCentre over the centres in the order they were added.
+    // Returns null if no centre is viable.
+    public Recycling findOptimalCentre(Location origin, boolean metallicPresent) {
+        Entry optimal = null;
+        double optimalTravelTime = 0.0;
+
+        for (Location location : LOCATIONS) {
+            double travelTime = Utils.TRAVEL_TIMES.between(origin, location);
+            if (travelTime > Utils.MAX_VIABLE_TRAVEL_TIME) {
+                continue;
+            }
+
+            for (Generation generation : Generation.values()) {
+                if (generation == Generation.GAMMA && !metallicPresent) {
+                    continue;
+                }
+
+                Entry candidate = this.best.get(bucket(location, generation));
+                if (candidate != null && (optimal == null || isBetter(candidate, travelTime, optimal, optimalTravelTime))) {
+                    optimal = candidate;
+                    optimalTravelTime = travelTime;
+                }
+            }
+        }
+
+        return optimal == null ? null : optimal.centre();
+    }
+
+    // Same choice as CostOptimizer.findFastestViableCentre over the centres in the order they were added.
+    // Only the per-bucket winners are compared, so this takes constant time. Returns null if no centre is viable.
+    public Recycling findFastestCentre(Historic historic) {
+        Recycling[] bucketWinners = new Recycling[this.best.length()];
+        long[] sequences = new long[bucketWinners.length];
+        for (int bucket = 0; bucket < bucketWinners.length; bucket++) {
+            Entry entry = this.best.get(bucket);
+            if (entry != null) {
+                bucketWinners[bucket] = entry.centre();
+                sequences[bucket] = entry.sequence();
+            }
+        }
+
+        return CostOptimizer.findFastestCentre(historic.snapshot(), bucketWinners, sequences);
+    }
+
+    // Nearest first, then least years active, then highest generation, then earliest added.
+    private static boolean isBetter(Entry candidate, double travelTime, Entry optimal, double optimalTravelTime) {
+        if (travelTime != optimalTravelTime) {
+            return travelTime < optimalTravelTime;
+        }
+
+        int yearsActive = candidate.centre().getYearsActive();
+        int optimalYearsActive = optimal.centre().getYearsActive();
+        if (yearsActive != optimalYearsActive) {
+            return yearsActive < optimalYearsActive;
+        }
+
+        int generation = candidate.centre().getGenerationType().ordinal();
+        int optimalGeneration = optimal.centre().getGenerationType().ordinal();
+        if (generation != optimalGeneration) {
+            return generation > optimalGeneration;
+        }
+
+        return candidate.sequence() < optimal.sequence();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TreeSet<Entry>[] newBuckets() {
+        TreeSet<Entry>[] buckets = new TreeSet[LOCATIONS.length * GENERATIONS];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new TreeSet<>(BY_YEARS_THEN_ADDED);
+        }
+
+        return buckets;
+    }
+
+    private static int bucket(Location location, Generation generation) {
+        return location.ordinal() * GENERATIONS + generation.ordinal();
+    }
+
+    private record Entry(Recycling centre, long sequence) {
+    }
+}
@@ -0,0 +1,29 @@
+import java.util.List;
+
+// The best few viable centres for a historic site, best first.
+public class CentreRanking {
+
+    private final List<RankedCentre> rankedCentres;
+
+    public CentreRanking(List<RankedCentre> rankedCentres) {
+        this.rankedCentres = List.copyOf(rankedCentres);
+    }
+
+    public List<RankedCentre> getRankedCentres() {
+        return this.rankedCentres;
+    }
+
+    // The fastest centre, or null if no centre is viable.
+    public RankedCentre getBest() {
+        return this.rankedCentres.isEmpty() ? null : this.rankedCentres.get(0);
+    }
+
+    // How many hours longer the second-best centre would take, or NaN if there is no second-best centre.
+    public double getRunnerUpGap() {
+        if (this.rankedCentres.size() < 2) {
+            return Double.NaN;
+        }
+
+        return this.rankedCentres.get(1).getTotalDuration() - this.rankedCentres.get(0).getTotalDuration();
+    }
+}
@@ -0,0 +1,119 @@
+import models.Generation;
+import models.Historic;
+import models.HistoricSnapshot;
+import models.Location;
+import models.Recycling;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Picks the viable centre with the least total duration (travel plus process), rather than by the
+// nearest / least years active / highest generation rule chain.
+//
+// The total only depends on a centre's location and generation, so the candidates are first reduced to the best
+// centre (least years active, earliest) of each (location, generation) bucket. Locations are then searched in order
+// of a lower bound: the location's travel duration plus the fastest process duration of any viable generation.
+// Once that bound is worse than the best total found, no later location can win and the search stops.
+// Equal totals fall back to the rule chain, so ties favour the same centre as findOptimalCentre.
+public final class CostOptimizer {
+
+    private static final int GENERATIONS = Generation.values().length;
+    private static final Location[] LOCATIONS = Location.values();
+
+    private CostOptimizer() {
+    }
+
+    // Returns null if no centre is viable. Neither the historic site nor the candidate list is modified.
+    public static Recycling findFastestViableCentre(Historic historic, List<Recycling> candidateCentres) {
+        Recycling[] bucketWinners = new Recycling[LOCATIONS.length * GENERATIONS];
+        long[] positions = new long[bucketWinners.length];
+
+        long position = 0;
+        for (Recycling centre : candidateCentres) {
+            int bucket = bucket(centre.getLocation(), centre.getGenerationType());
+            if (bucketWinners[bucket] == null || centre.getYearsActive() < bucketWinners[bucket].getYearsActive()) {
+                bucketWinners[bucket] = centre;
+                positions[bucket] = position;
+            }
+            position++;
+        }
+
+        return findFastestCentre(historic.snapshot(), bucketWinners, positions);
+    }
+
+    // bucketWinners holds the best centre of each (location, generation) bucket, or null for an empty bucket, and
+    // positions says which of two winners came first. Shared with CentreIndex, which keeps these winners up to date.
+    static Recycling findFastestCentre(HistoricSnapshot historic, Recycling[] bucketWinners, long[] positions) {
+        Location origin = historic.getLocation();
+        boolean metallicPresent = historic.getMetallic() > 0;
+
+        // Both parts of the total are worked out once per location and once per generation, not once per centre.
+        double[] processDurations = new double[GENERATIONS];
+        double fastestProcessDuration = Double.POSITIVE_INFINITY;
+        for (Generation generation : Generation.values()) {
+            processDurations[generation.ordinal()] = generation.getRateTable()
+                    .processDuration(historic.getPlasticGlass(), historic.getPaper(), historic.getMetallic());
+            if (generation != Generation.GAMMA || metallicPresent) {
+                fastestProcessDuration = Math.min(fastestProcessDuration, processDurations[generation.ordinal()]);
+            }
+        }
+
+        Location[] locations = Arrays.stream(LOCATIONS)
+                .filter(location -> Utils.TRAVEL_TIMES.between(origin, location) <= Utils.MAX_VIABLE_TRAVEL_TIME)
+                .toArray(Location[]::new);
+        double[] travelDurations = new double[LOCATIONS.length];
+        for (Location location : locations) {
+            travelDurations[location.ordinal()] = Utils.travelDuration(origin, historic.getRemainingWaste(), location);
+        }
+        Arrays.sort(locations, (a, b) -> Double.compare(travelDurations[a.ordinal()], travelDurations[b.ordinal()]));
+
+        int fastest = -1;
+        double fastestTotal = Double.POSITIVE_INFINITY;
+        for (Location location : locations) {
+            // Ties with the best total found so far still need checking against the rule chain.
+            if (travelDurations[location.ordinal()] + fastestProcessDuration > fastestTotal) {
+                break;
+            }
+
+            for (Generation generation : Generation.values()) {
+                int bucket = bucket(location, generation);
+                if (bucketWinners[bucket] == null || (generation == Generation.GAMMA && !metallicPresent)) {
+                    continue;
+                }
+
+                double total = travelDurations[location.ordinal()] + processDurations[generation.ordinal()];
+                if (fastest == -1 || total < fastestTotal
+                        || (total == fastestTotal && isBetter(origin, bucket, fastest, bucketWinners, positions))) {
+                    fastest = bucket;
+                    fastestTotal = total;
+                }
+            }
+        }
+
+        return fastest == -1 ? null : bucketWinners[fastest];
+    }
+
+    // The findOptimalCentre rule chain: nearest, then least years active, then highest generation, then earliest.
+    private static boolean isBetter(Location origin, int candidate, int optimal, Recycling[] bucketWinners, long[] positions) {
+        Recycling candidateCentre = bucketWinners[candidate];
+        Recycling optimalCentre = bucketWinners[optimal];
+
+        double travelTime = Utils.TRAVEL_TIMES.between(origin, candidateCentre.getLocation());
+        double optimalTravelTime = Utils.TRAVEL_TIMES.between(origin, optimalCentre.getLocation());
+        if (travelTime != optimalTravelTime) {
+            return travelTime < optimalTravelTime;
+        }
+        if (candidateCentre.getYearsActive() != optimalCentre.getYearsActive()) {
+            return candidateCentre.getYearsActive() < optimalCentre.getYearsActive();
+        }
+        if (candidateCentre.getGenerationType() != optimalCentre.getGenerationType()) {
+            return candidateCentre.getGenerationType().ordinal() > optimalCentre.getGenerationType().ordinal();
+        }
+
+        return positions[candidate] < positions[optimal];
+    }
+
+    private static int bucket(Location location, Generation generation) {
+        return location.ordinal() * GENERATIONS + generation.ordinal();
+    }
+}
@@ -0,0 +1,46 @@
+import java.util.random.RandomGenerator;
+
+// A source of random values for uncertain survey inputs, such as the initial waste or the share of it that is paper.
+@FunctionalInterface
+public interface Distribution {
+
+    double sample(RandomGenerator random);
+
+    static Distribution fixed(double value) {
+        return random -> value;
+    }
+
+    static Distribution uniform(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Minimum cannot be greater than maximum.");
+        }
+
+        return random -> min == max ? min : random.nextDouble(min, max);
+    }
+
+    static Distribution normal(double mean, double standardDeviation) {
+        if (!(standardDeviation >= 0)) {
+            throw new IllegalArgumentException("Standard deviation cannot be negative.");
+        }
+
+        return random -> random.nextGaussian(mean, standardDeviation);
+    }
+
+    // Useful when a survey gives a lowest, most likely and highest estimate.
+    static Distribution triangular(double min, double mode, double max) {
+        if (!(min <= mode && mode <= max)) {
+            throw new IllegalArgumentException("Expected minimum <= mode <= maximum.");
+        }
+        if (min == max) {
+            return fixed(min);
+        }
+
+        double split = (mode - min) / (max - min);
+        return random -> {
+            double u = random.nextDouble();
+            return u < split
+                    ? min + Math.sqrt(u * (max - min) * (mode - min))
+                    : max - Math.sqrt((1 - u) * (max - min) * (max - mode));
+        };
+    }
+}
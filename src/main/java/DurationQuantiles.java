@@ -0,0 +1,40 @@
+import models.Recycling;
+
+// Spread of total scenario durations for one candidate centre over the Monte Carlo trials in which it was viable.
+public class DurationQuantiles {
+
+    private final Recycling centre;
+    private final long viableTrials;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+
+    public DurationQuantiles(Recycling centre, long viableTrials, double p50, double p90, double p99) {
+        this.centre = centre;
+        this.viableTrials = viableTrials;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public Recycling getCentre() {
+        return this.centre;
+    }
+
+    // Gamma centres are not viable in trials without metallic waste. Quantiles are NaN if the centre was never viable.
+    public long getViableTrials() {
+        return this.viableTrials;
+    }
+
+    public double getP50() {
+        return this.p50;
+    }
+
+    public double getP90() {
+        return this.p90;
+    }
+
+    public double getP99() {
+        return this.p99;
+    }
+}
@@ -0,0 +1,31 @@
+public class FleetResult {
+
+    private final int trucks;
+    private final long loads;
+    private final long events;
+    private final double makespan;
+
+    public FleetResult(int trucks, long loads, long events, double makespan) {
+        this.trucks = trucks;
+        this.loads = loads;
+        this.events = events;
+        this.makespan = makespan;
+    }
+
+    public int getTrucks() {
+        return this.trucks;
+    }
+
+    public long getLoads() {
+        return this.loads;
+    }
+
+    public long getEvents() {
+        return this.events;
+    }
+
+    // Time at which the last load reaches the recycling centre.
+    public double getMakespan() {
+        return this.makespan;
+    }
+}
@@ -0,0 +1,184 @@
+import models.Historic;
+import models.Recycling;
+
+// Discrete-event simulation of a fleet of trucks moving a historic site's waste to a recycling centre.
+//
+// Trucks queue for the site's single loading bay, spend loadingTime there, then make the trip to the centre,
+// which takes the usual travel time. Trucks shuttle: after unloading, a truck drives back to the site before it
+// can queue for its next load, so each load but a truck's last costs a round trip.
+//
+// Utils.calculateTravelDuration only counts the outbound trips. Simulating one-way trips (returnTrips = false)
+// with one truck and no loading time gives the same duration, for comparison.
+//
+// Events are kept in a primitive binary heap, so the simulation allocates nothing per event.
+public final class FleetSimulator {
+
+    private static final int DEPART = 0;
+    private static final int ARRIVE = 1;
+    private static final int RETURN = 2;
+
+    private final int trucks;
+    private final double capacity;
+    private final double loadingTime;
+    private final boolean returnTrips;
+
+    public FleetSimulator(int trucks, double capacity, double loadingTime) {
+        this(trucks, capacity, loadingTime, true);
+    }
+
+    public FleetSimulator(int trucks, double capacity, double loadingTime, boolean returnTrips) {
+        if (trucks < 1) {
+            throw new IllegalArgumentException("A fleet needs at least one truck.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Truck capacity must be positive.");
+        }
+        if (loadingTime < 0) {
+            throw new IllegalArgumentException("Loading time cannot be negative.");
+        }
+
+        this.trucks = trucks;
+        this.capacity = capacity;
+        this.loadingTime = loadingTime;
+        this.returnTrips = returnTrips;
+    }
+
+    public FleetResult simulate(Historic historic, Recycling recyclingCentre) {
+        double travelTime = Utils.TRAVEL_TIMES.between(historic.getLocation(), recyclingCentre.getLocation());
+        return simulate(historic.getRemainingWaste(), travelTime);
+    }
+
+    public FleetResult simulate(double waste, double travelTime) {
+        long loads = TripPlanner.countLoads(waste, this.capacity);
+        EventQueue events = new EventQueue(this.trucks);
+
+        long dispatched = 0;
+        long processed = 0;
+        double bayFreeAt = 0.0;
+        double makespan = 0.0;
+
+        // Every truck starts out waiting at the loading bay.
+        for (int truck = 0; truck < this.trucks && dispatched < loads; truck++, dispatched++) {
+            bayFreeAt += this.loadingTime;
+            events.push(bayFreeAt, truck, DEPART);
+        }
+
+        while (!events.isEmpty()) {
+            double time = events.peekTime();
+            int truck = events.peekTruck();
+            int type = events.peekType();
+            events.pop();
+            processed++;
+
+            if (type == DEPART) {
+                events.push(time + travelTime, truck, ARRIVE);
+            } else if (type == ARRIVE) {
+                makespan = time;
+
+                // The truck heads back for another load if there is waste left; otherwise it is done.
+                if (dispatched < loads) {
+                    dispatched++;
+                    if (this.returnTrips) {
+                        events.push(time + travelTime, truck, RETURN);
+                    } else {
+                        bayFreeAt = Math.max(bayFreeAt, time) + this.loadingTime;
+                        events.push(bayFreeAt, truck, DEPART);
+                    }
+                }
+            } else {
+                // Back at the site, the truck joins the queue for the loading bay.
+                bayFreeAt = Math.max(bayFreeAt, time) + this.loadingTime;
+                events.push(bayFreeAt, truck, DEPART);
+            }
+        }
+
+        return new FleetResult(this.trucks, loads, processed, makespan);
+    }
+
+    // Makespan for every fleet size from 1 to maxTrucks; index i holds the result for i + 1 trucks.
+    public static double[] sweepMakespans(double waste, double travelTime, double capacity, double loadingTime, int maxTrucks) {
+        double[] makespans = new double[maxTrucks];
+        for (int trucks = 1; trucks <= maxTrucks; trucks++) {
+            makespans[trucks - 1] = new FleetSimulator(trucks, capacity, loadingTime).simulate(waste, travelTime).getMakespan();
+        }
+
+        return makespans;
+    }
+
+    // Min-heap of (time, truck, event type). Each truck has at most one pending event, so the heap never grows.
+    // Simultaneous events are ordered by truck, then type, to keep runs deterministic.
+    private static final class EventQueue {
+        private final double[] times;
+        private final long[] keys;
+        private int size;
+
+        EventQueue(int capacity) {
+            this.times = new double[capacity];
+            this.keys = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        double peekTime() {
+            return this.times[0];
+        }
+
+        int peekTruck() {
+            return (int) (this.keys[0] >>> 2);
+        }
+
+        int peekType() {
+            return (int) (this.keys[0] & 3);
+        }
+
+        void push(double time, int truck, int type) {
+            long key = ((long) truck << 2) | type;
+            int child = this.size++;
+
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (!less(time, key, this.times[parent], this.keys[parent])) {
+                    break;
+                }
+                this.times[child] = this.times[parent];
+                this.keys[child] = this.keys[parent];
+                child = parent;
+            }
+
+            this.times[child] = time;
+            this.keys[child] = key;
+        }
+
+        void pop() {
+            int last = --this.size;
+            double time = this.times[last];
+            long key = this.keys[last];
+            int parent = 0;
+
+            while (true) {
+                int child = 2 * parent + 1;
+                if (child >= last) {
+                    break;
+                }
+                if (child + 1 < last && less(this.times[child + 1], this.keys[child + 1], this.times[child], this.keys[child])) {
+                    child++;
+                }
+                if (!less(this.times[child], this.keys[child], time, key)) {
+                    break;
+                }
+                this.times[parent] = this.times[child];
+                this.keys[parent] = this.keys[child];
+                parent = child;
+            }
+
+            this.times[parent] = time;
+            this.keys[parent] = key;
+        }
+
+        private static boolean less(double time, long key, double otherTime, long otherKey) {
+            return time < otherTime || (time == otherTime && key < otherKey);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+// Splits an input stream into whitespace-separated tokens through one large buffer, for reading a whole CLI
+// session (typed, piped or replayed from a script) without a Scanner per prompt.
+//
+// Behaves like Scanner for the calls Main makes: next() throws NoSuchElementException once the input is used up,
+// and nextInt()/nextDouble() throw InputMismatchException without consuming a token that is not a number, so the
+// caller can read it again with next().
+public final class InputTokenizer implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Decimal numbers only: parseDouble also takes type suffixes and hex, which Scanner would reject.
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(NaN|Infinity|(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?)");
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private byte[] token = new byte[64];
+    // A token read ahead by a nextInt()/nextDouble() call that did not match.
+    private String pending;
+
+    public InputTokenizer(InputStream in) {
+        this.in = in;
+    }
+
+    public String next() {
+        if (this.pending != null) {
+            String token = this.pending;
+            this.pending = null;
+            return token;
+        }
+
+        int b = read();
+        while (b != -1 && isWhitespace(b)) {
+            b = read();
+        }
+        if (b == -1) {
+            throw new NoSuchElementException();
+        }
+
+        int length = 0;
+        while (b != -1 && !isWhitespace(b)) {
+            if (length == this.token.length) {
+                this.token = Arrays.copyOf(this.token, length * 2);
+            }
+            this.token[length++] = (byte) b;
+            b = read();
+        }
+
+        return new String(this.token, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public int nextInt() {
+        String token = next();
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            this.pending = token;
+            throw new InputMismatchException("For input string: \"" + token + "\"");
+        }
+    }
+
+    public double nextDouble() {
+        String token = next();
+        try {
+            if (!DECIMAL.matcher(token).matches()) {
+                throw new NumberFormatException();
+            }
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            this.pending = token;
+            throw new InputMismatchException("For input string: \"" + token + "\"");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    private int read() {
+        if (this.position == this.limit) {
+            try {
+                this.limit = this.in.read(this.buffer, 0, this.buffer.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.position = 0;
+            if (this.limit <= 0) {
+                this.limit = 0;
+                return -1;
+            }
+        }
+
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    // Multi-byte UTF-8 characters never contain these bytes, so tokens can be split before decoding.
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Records latencies in nanoseconds into log-linear buckets: exact below 16ns, then 16 buckets per power of two, so
+// any reported quantile is within 1/16 (6.25%) of the true value. Memory is fixed at 960 buckets however many values
+// are recorded, and recording is lock-free, so any number of threads can share one histogram.
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        this.counts.incrementAndGet(bucket(value));
+        this.count.increment();
+        this.sum.add(value);
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    // Total of every recorded latency, in nanoseconds.
+    public long getSum() {
+        return this.sum.sum();
+    }
+
+    // The latency, in nanoseconds, that the given fraction of recorded values are at or below, e.g. 0.99 for p99.
+    // Reports the top of the bucket it falls in, so it may overstate but never understate. Returns 0 if empty.
+    public long getValueAtQuantile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1.");
+        }
+
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = this.counts.get(bucket);
+            total += counts[bucket];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return highestValueIn(bucket);
+            }
+        }
+
+        return highestValueIn(BUCKETS - 1);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        // The top bit picks the power of two, and the next four bits pick the sub-bucket within it.
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+}
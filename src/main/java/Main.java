@@ -1,25 +1,138 @@
+import com.sun.net.httpserver.HttpServer;
 import models.*;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args) {
 
+    private static final List<String> OPTIONS =
+            List.of("--batch", "--cache", "--script", "--metrics-file", "--metrics-port");
+
+    // One reader for the whole session, so input piped or scripted ahead of the prompts is never lost between them.
+    private static InputTokenizer input;
+
+    public static void main(String[] args) throws IOException {
+        Path batchFile = null;
+        Path scriptFile = null;
+        Path metricsFile = null;
+        ScenarioCache cache = null;
+        Integer metricsPort = null;
+
+        // Options come in pairs: --batch <file>, --cache <results>, --script <file>, --metrics-file <file> and
+        // --metrics-port <port>. Anything else is rejected before any work starts.
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (!OPTIONS.contains(option)) {
+                showUsage("Unknown option: " + option);
+                return;
+            }
+            // A value that is itself an option means this option's value was left out.
+            if (i + 1 >= args.length || OPTIONS.contains(args[i + 1])) {
+                showUsage("Missing value for " + option);
+                return;
+            }
+
+            String value = args[i + 1];
+            try {
+                switch (option) {
+                    case "--batch" -> batchFile = Path.of(value);
+                    case "--cache" -> cache = new ScenarioCache(Integer.parseInt(value));
+                    case "--script" -> scriptFile = Path.of(value);
+                    case "--metrics-file" -> metricsFile = Path.of(value);
+                    default -> metricsPort = parsePort(value);
+                }
+            } catch (IllegalArgumentException e) {
+                // Covers numbers that do not parse as well as cache sizes and ports that are out of range.
+                showUsage("Invalid value for " + option + ": " + value);
+                return;
+            }
+        }
+
+        // A cache only applies to a batch, and a batch and a script are two different ways of running.
+        if (cache != null && batchFile == null) {
+            showUsage("--cache can only be used with --batch");
+            return;
+        }
+        if (batchFile != null && scriptFile != null) {
+            showUsage("--batch and --script cannot be used together");
+            return;
+        }
+
+        HttpServer metricsServer = null;
+        if (metricsPort != null) {
+            try {
+                metricsServer = ScenarioMetrics.REGISTRY.serve(metricsPort);
+            } catch (IOException e) {
+                // Most likely the port is already in use.
+                System.out.println("Could not serve metrics on port " + metricsPort + ": " + e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            // Headless mode: run every scenario in the given file and exit.
+            if (batchFile != null) {
+                BatchRunner.run(batchFile, System.out, Runtime.getRuntime().availableProcessors(), cache);
+            } else if (scriptFile != null) {
+                // Scripted mode: replay the answers to every prompt from a file, exactly as if they had been typed.
+                // Nobody is waiting on the prompts, so output is buffered rather than flushed line by line.
+                PrintStream console = System.out;
+                try (InputTokenizer script = new InputTokenizer(Files.newInputStream(scriptFile))) {
+                    input = script;
+                    System.setOut(new PrintStream(new BufferedOutputStream(console, 1 << 16), false, console.charset()));
+                    runInteractive();
+                } finally {
+                    System.out.flush();
+                    System.setOut(console);
+                }
+            } else {
+                input = new InputTokenizer(System.in);
+                runInteractive();
+            }
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+            if (metricsFile != null) {
+                ScenarioMetrics.REGISTRY.writePrometheus(metricsFile);
+            }
+        }
+    }
+
+    private static int parsePort(String value) {
+        int port = Integer.parseInt(value);
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535.");
+        }
+
+        return port;
+    }
+
+    private static void showUsage(String problem) {
+        System.out.println(problem);
+        System.out.println("Usage: Main [--batch <file> [--cache <results>] | --script <file>] [--metrics-file <file>]"
+                + " [--metrics-port <port>]");
+    }
+
+    private static void runInteractive() {
         System.out.println("----------------------------------------");
         System.out.println("Landfill Labs - Worker Service Prototype");
         System.out.println("----------------------------------------");
         System.out.println();
 
-        Scanner scanner = new Scanner(System.in);
         boolean exit = false;
 
         while (!exit) {
             showOptions();
 
-            int selected = scanner.nextInt();
+            int selected = input.nextInt();
 
             switch (selected) {
                 case 1:
@@ -66,11 +179,10 @@ public class Main {
     private static ScenarioConfiguration configureScenario() {
         System.out.println();
 
-        Scanner scanner = new Scanner(System.in);
         boolean exit = false;
 
-        Historic historic = null;
-        List<Recycling> recycling = null;
+        List<Historic> historics = new ArrayList<>();
+        List<Recycling> recycling = new ArrayList<>();
 
         while (!exit) {
             System.out.println();
@@ -80,11 +192,13 @@ public class Main {
             System.out.println("3. Run Scenario.");
             System.out.println();
 
-            int selected = scanner.nextInt();
+            int selected = input.nextInt();
 
             switch (selected) {
                 case 1:
-                    historic = createHistoric();
+                    // Each "Add Historic" adds another site, evaluated against the same recycling centres.
+                    Historic historic = createHistoric();
+                    historics.add(historic);
                     System.out.printf("Historic site created with: location = %s; initialWaste = %f", historic.getLocation(), historic.getRemainingWaste());
                     System.out.println();
                     System.out.println();
@@ -105,23 +219,25 @@ public class Main {
             }
         }
 
-        return new ScenarioConfiguration(historic, recycling);
+        ScenarioConfiguration scenarioConfiguration = new ScenarioConfiguration(null, recycling);
+        for (Historic historic : historics) {
+            scenarioConfiguration.addHistoric(historic);
+        }
+
+        return scenarioConfiguration;
     }
 
     private static Historic createHistoric() {
         System.out.println();
         System.out.println("Creating a historic site...");
 
-        // Sam @FourWallsSoft: set-up scanner
-        Scanner scanner = new Scanner(System.in);
-
         // Sam @FourWallsSoft: get the location
         Location location = collectLocation();
         System.out.println();
 
         // Sam @FourWallsSoft: get the initial waste quantity
         System.out.println("Enter the initial waste quantity at the historic site (in meters cubed):");
-        double initialWasteQuantity = scanner.nextDouble();
+        double initialWasteQuantity = input.nextDouble();
         System.out.println();
 
         // Sam @FourWallsSoft: create and return the historic site
@@ -131,8 +247,7 @@ public class Main {
     private static List<Recycling> createRecycling() {
         System.out.println();
 
-        // Sam @FourWallsSoft: set-up scanner and list of recycling centres
-        Scanner scanner = new Scanner(System.in);
+        // Sam @FourWallsSoft: set-up list of recycling centres
         List<Recycling> recycling = new ArrayList<>();
 
         // Sam @FourWallsSoft: set-up main loop, needed because we can create many recycling centres
@@ -147,7 +262,7 @@ public class Main {
 
             // Sam @FourWallsSoft: get years active
             System.out.println("Enter the number of years the recycling centre has been active for:");
-            int yearsActive = scanner.nextInt();
+            int yearsActive = input.nextInt();
             System.out.println();
 
             // Sam @FourWallsSoft: get generation and add centre to list
@@ -164,7 +279,7 @@ public class Main {
 
             // Sam @FourWallsSoft: exit if the user is done, otherwise being creating another recycling centre
             System.out.println("Recycling centre created. Would you like to create another recycling centre? (y/n)");
-            String selected = scanner.next();
+            String selected = input.next();
 
             if (Objects.equals(selected, "n")) {
                 exit = true;
@@ -176,9 +291,6 @@ public class Main {
     }
 
     private static Location collectLocation() {
-        // Sam @FourWallsSoft: set-up scanner
-        Scanner scanner = new Scanner(System.in);
-
         // Sam @FourWallsSoft: ask for location
         System.out.println("Enter a location (A, B, or C):");
         Location location = null;
@@ -187,7 +299,7 @@ public class Main {
         boolean exit = false;
         while (!exit) {
 
-            String selected = scanner.next();
+            String selected = input.next();
 
             switch (selected) {
                 case "A":
@@ -212,9 +324,6 @@ public class Main {
     }
 
     private static String collectGeneration() {
-        // Sam @FourWallsSoft: set-up scanner
-        Scanner scanner = new Scanner(System.in);
-
         // Sam @FourWallsSoft: ask for location
         System.out.println("Enter the generation of the recycling centre (Alpha, Beta, or Gamma):");
         String generation = null;
@@ -223,7 +332,7 @@ public class Main {
         boolean exit = false;
         while (!exit) {
 
-            String selected = scanner.next();
+            String selected = input.next();
 
             switch (selected) {
                 case "Alpha":
@@ -246,21 +355,37 @@ public class Main {
         System.out.println();
 
         // Sam @FourWallsSoft: run the configured scenario
-        List<Recycling> viableCentres = Utils.findViableCentres(scenarioConfiguration.getHistoric(), scenarioConfiguration.getRecycling());
-        Recycling optimalCentre = Utils.findOptimalCentre(scenarioConfiguration.getHistoric(), viableCentres);
-        double travelDuration = Utils.calculateTravelDuration(scenarioConfiguration.getHistoric(), optimalCentre);
-        double processDuration = Utils.calculateProcessDuration(scenarioConfiguration.getHistoric(), optimalCentre);
+        MultiSiteResult results = ScenarioRunner.runAll(scenarioConfiguration);
+        List<ScenarioResult> siteResults = results.getSiteResults();
 
-        // Sam @FourWallsSoft: output the scenario results to the user.
-        System.out.println("Scenario successfully completed. Results:");
-        System.out.println();
+        for (int i = 0; i < siteResults.size(); i++) {
+            ScenarioResult result = siteResults.get(i);
+            double travelDuration = result.getTravelDuration();
+            double processDuration = result.getProcessDuration();
 
-        System.out.printf("Time to fill recycling centre: %f hours; ", travelDuration);
-        System.out.printf("Time to process the waste after delivery: %f hours.", processDuration);
-        System.out.println();
-        System.out.println();
+            if (siteResults.size() > 1) {
+                System.out.printf("Historic site %d (location = %s):", i + 1, result.getHistoric().getLocation());
+                System.out.println();
+            }
 
-        System.out.printf("The total duration is therefore: %f.", travelDuration + processDuration);
-        System.out.println();
+            // Sam @FourWallsSoft: output the scenario results to the user.
+            System.out.println("Scenario successfully completed. Results:");
+            System.out.println();
+
+            System.out.printf("Time to fill recycling centre: %f hours; ", travelDuration);
+            System.out.printf("Time to process the waste after delivery: %f hours.", processDuration);
+            System.out.println();
+            System.out.println();
+
+            System.out.printf("The total duration is therefore: %f.", travelDuration + processDuration);
+            System.out.println();
+        }
+
+        if (siteResults.size() > 1) {
+            System.out.println();
+            System.out.printf("Across all %d historic sites, the total duration is: %f hours; the longest site takes: %f hours.",
+                    siteResults.size(), results.getTotalDuration(), results.getLongestDuration());
+            System.out.println();
+        }
     }
 }
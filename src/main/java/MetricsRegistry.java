@@ -0,0 +1,158 @@
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters and latency histograms, identified by a metric name plus label name/value pairs, exported in the
+// Prometheus text format either to a file or from a local HTTP endpoint.
+//
+// Look a metric up once and keep it: lookups may allocate, while incrementing a counter or recording a latency is
+// lock-free and never does.
+public final class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // Sorted, so every export lists the metrics in the same order.
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public LongAdder counter(String name, String help, String... labels) {
+        return (LongAdder) family(name, help, Type.COUNTER).metrics
+                .computeIfAbsent(formatLabels(labels), key -> new LongAdder());
+    }
+
+    public LatencyHistogram histogram(String name, String help, String... labels) {
+        return (LatencyHistogram) family(name, help, Type.SUMMARY).metrics
+                .computeIfAbsent(formatLabels(labels), key -> new LatencyHistogram());
+    }
+
+    // Latencies are exported in seconds, as p50, p99 and p999 plus a sum and count.
+    public void writePrometheus(Writer out) throws IOException {
+        for (Map.Entry<String, Family> entry : this.families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.write("# HELP " + name + " " + family.help + "\n");
+            out.write("# TYPE " + name + " " + family.type.name().toLowerCase() + "\n");
+
+            for (Map.Entry<String, Object> metric : family.metrics.entrySet()) {
+                String labels = metric.getKey();
+                if (metric.getValue() instanceof LongAdder counter) {
+                    out.write(name + braces(labels) + " " + counter.sum() + "\n");
+                } else if (metric.getValue() instanceof LatencyHistogram histogram) {
+                    for (double quantile : QUANTILES) {
+                        String quantileLabel = "quantile=\"" + quantile + "\"";
+                        out.write(name + braces(labels.isEmpty() ? quantileLabel : labels + "," + quantileLabel) + " "
+                                + histogram.getValueAtQuantile(quantile) / NANOS_PER_SECOND + "\n");
+                    }
+                    out.write(name + "_sum" + braces(labels) + " " + histogram.getSum() / NANOS_PER_SECOND + "\n");
+                    out.write(name + "_count" + braces(labels) + " " + histogram.getCount() + "\n");
+                }
+            }
+        }
+    }
+
+    // Written to a temporary file first and then moved into place, so a scraper never reads a half-written file.
+    public void writePrometheus(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(temporary)) {
+                writePrometheus(out);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Serves the current values at http://localhost:<port>/metrics until the returned server is stopped.
+    // Port 0 picks a free port; see getAddress() on the returned server.
+    public HttpServer serve(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            try (exchange) {
+                StringWriter body = new StringWriter();
+                writePrometheus(body);
+                byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        });
+        server.start();
+
+        return server;
+    }
+
+    private Family family(String name, String help, Type type) {
+        if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+
+        Family family = this.families.computeIfAbsent(name, key -> new Family(type, help));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type.name().toLowerCase() + ".");
+        }
+
+        return family;
+    }
+
+    private static String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs.");
+        }
+
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!labels[i].matches("[a-zA-Z_][a-zA-Z0-9_]*") || labels[i].equals("quantile")) {
+                throw new IllegalArgumentException("Invalid label name: " + labels[i]);
+            }
+            if (i > 0) {
+                formatted.append(',');
+            }
+            formatted.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+
+        return formatted.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String braces(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+
+    private enum Type {
+        COUNTER,
+        SUMMARY
+    }
+
+    // Every metric with the same name, keyed by its formatted labels.
+    private static final class Family {
+        private final Type type;
+        private final String help;
+        private final Map<String, Object> metrics = new ConcurrentSkipListMap<>();
+
+        Family(Type type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+}
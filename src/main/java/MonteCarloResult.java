@@ -0,0 +1,28 @@
+import java.util.List;
+
+public class MonteCarloResult {
+
+    private final long trials;
+    private final boolean converged;
+    private final List<DurationQuantiles> centreQuantiles;
+
+    public MonteCarloResult(long trials, boolean converged, List<DurationQuantiles> centreQuantiles) {
+        this.trials = trials;
+        this.converged = converged;
+        this.centreQuantiles = List.copyOf(centreQuantiles);
+    }
+
+    public long getTrials() {
+        return this.trials;
+    }
+
+    // False if the trial limit was reached before the percentiles settled.
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    // One entry per candidate centre, in the order the centres were given.
+    public List<DurationQuantiles> getCentreQuantiles() {
+        return this.centreQuantiles;
+    }
+}
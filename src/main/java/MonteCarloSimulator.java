@@ -0,0 +1,288 @@
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.RateTable;
+import models.Recycling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Estimates how long a scenario may take when the historic site survey is uncertain.
+//
+// Each trial samples the initial waste, the share of it that is paper and the share that is metallic, then works
+// out the total duration (travel plus processing) for every candidate centre. As in Historic, there is no metallic
+// waste at or below the metallic threshold, and plastic/glass makes up whatever is left. The duration only depends on
+// a centre's location and generation, so each trial is worked out once per (location, generation) and shared by all
+// centres in it.
+//
+// Trials run in fixed-size batches in parallel. Every batch gets its own generator, split off a single seeded
+// generator in batch order, so the same seed gives the same result however many threads are used. The number of
+// trials doubles until P50, P90 and P99 all move by less than the tolerance, or the trial limit is reached.
+//
+// Durations are not kept: each batch adds its samples to a fixed-size histogram per slot, so memory stays the same
+// however many trials run, and percentiles are read from the histogram without sorting.
+public final class MonteCarloSimulator {
+
+    static final int TRIALS_PER_BATCH = 10_000;
+
+    private static final int GENERATIONS = Generation.values().length;
+    private static final Location[] LOCATIONS = Location.values();
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.99};
+
+    private final Distribution initialWaste;
+    private final Distribution paperShare;
+    private final Distribution metallicShare;
+    private final long seed;
+    private final int minTrials;
+    private final int maxTrials;
+    private final double tolerance;
+
+    public MonteCarloSimulator(Distribution initialWaste, Distribution paperShare, Distribution metallicShare, long seed) {
+        this(initialWaste, paperShare, metallicShare, seed, 100_000, 4_000_000, 0.001);
+    }
+
+    public MonteCarloSimulator(Distribution initialWaste, Distribution paperShare, Distribution metallicShare, long seed,
+                               int minTrials, int maxTrials, double tolerance) {
+        if (initialWaste == null || paperShare == null || metallicShare == null) {
+            throw new IllegalArgumentException("Distributions cannot be null.");
+        }
+        if (minTrials < 1 || maxTrials < minTrials) {
+            throw new IllegalArgumentException("Expected 1 <= minimum trials <= maximum trials.");
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("Tolerance cannot be negative.");
+        }
+
+        this.initialWaste = initialWaste;
+        this.paperShare = paperShare;
+        this.metallicShare = metallicShare;
+        this.seed = seed;
+        this.minTrials = minTrials;
+        this.maxTrials = maxTrials;
+        this.tolerance = tolerance;
+    }
+
+    public MonteCarloResult simulate(Location historicLocation, List<Recycling> candidateCentres) {
+        // Work out which (location, generation) buckets are in range, and give each a slot in the sample arrays.
+        int[] slotOfBucket = new int[LOCATIONS.length * GENERATIONS];
+        Arrays.fill(slotOfBucket, -1);
+        List<Integer> buckets = new ArrayList<>();
+        for (Recycling centre : candidateCentres) {
+            int bucket = bucket(centre.getLocation(), centre.getGenerationType());
+            double travelTime = Utils.TRAVEL_TIMES.between(historicLocation, centre.getLocation());
+            if (slotOfBucket[bucket] == -1 && travelTime <= Utils.MAX_VIABLE_TRAVEL_TIME) {
+                slotOfBucket[bucket] = buckets.size();
+                buckets.add(bucket);
+            }
+        }
+
+        int slots = buckets.size();
+        double[] travelTimes = new double[slots];
+        RateTable[] rates = new RateTable[slots];
+        boolean[] needsMetallic = new boolean[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            int bucket = buckets.get(slot);
+            Generation generation = Generation.values()[bucket % GENERATIONS];
+            travelTimes[slot] = Utils.TRAVEL_TIMES.between(historicLocation, LOCATIONS[bucket / GENERATIONS]);
+            rates[slot] = generation.getRateTable();
+            needsMetallic[slot] = generation == Generation.GAMMA;
+        }
+
+        SplittableRandom root = new SplittableRandom(this.seed);
+        DurationHistogram[] histograms = new DurationHistogram[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            histograms[slot] = new DurationHistogram();
+        }
+        double[][] previous = null;
+        double[][] quantiles = new double[slots][];
+        int trials = 0;
+        int target = this.minTrials;
+        boolean converged = false;
+
+        while (true) {
+            // Split the generators here, in batch order, so each batch sees the same stream on any thread.
+            int batches = (target - trials + TRIALS_PER_BATCH - 1) / TRIALS_PER_BATCH;
+            SplittableRandom[] generators = new SplittableRandom[batches];
+            int[] batchTrials = new int[batches];
+            for (int batch = 0; batch < batches; batch++) {
+                generators[batch] = root.split();
+                batchTrials[batch] = Math.min(TRIALS_PER_BATCH, target - trials - batch * TRIALS_PER_BATCH);
+            }
+
+            // Histogram counts do not depend on the order batches are added in, so each is added as it finishes.
+            IntStream.range(0, batches).parallel().forEach(batch -> {
+                Batch result = runBatch(generators[batch], batchTrials[batch], travelTimes, rates, needsMetallic);
+                synchronized (histograms) {
+                    for (int slot = 0; slot < slots; slot++) {
+                        histograms[slot].addAll(result.samples()[slot], result.counts()[slot]);
+                    }
+                }
+            });
+            trials = target;
+
+            for (int slot = 0; slot < slots; slot++) {
+                quantiles[slot] = histograms[slot].quantiles(PERCENTILES);
+            }
+
+            converged = previous != null && withinTolerance(previous, quantiles);
+            if (converged || trials >= this.maxTrials) {
+                break;
+            }
+
+            previous = deepCopy(quantiles);
+            target = (int) Math.min((long) target * 2, this.maxTrials);
+        }
+
+        List<DurationQuantiles> centreQuantiles = new ArrayList<>(candidateCentres.size());
+        for (Recycling centre : candidateCentres) {
+            int slot = slotOfBucket[bucket(centre.getLocation(), centre.getGenerationType())];
+            if (slot == -1) {
+                centreQuantiles.add(new DurationQuantiles(centre, 0, Double.NaN, Double.NaN, Double.NaN));
+            } else {
+                double[] q = quantiles[slot];
+                centreQuantiles.add(new DurationQuantiles(centre, histograms[slot].getCount(), q[0], q[1], q[2]));
+            }
+        }
+
+        return new MonteCarloResult(trials, converged, centreQuantiles);
+    }
+
+    private Batch runBatch(SplittableRandom random, int trials, double[] travelTimes, RateTable[] rates,
+                           boolean[] needsMetallic) {
+        int slots = travelTimes.length;
+        double[][] samples = new double[slots][trials];
+        int[] counts = new int[slots];
+
+        for (int trial = 0; trial < trials; trial++) {
+            // Always draw all three values, so every trial uses the same number of random numbers.
+            double waste = Math.max(0.0, this.initialWaste.sample(random));
+            double paperFraction = clamp(this.paperShare.sample(random), 0.0, 1.0);
+            double metallicFraction = clamp(this.metallicShare.sample(random), 0.0, 1.0 - paperFraction);
+
+            double paper = waste * paperFraction;
+            double metallic = waste > Historic.METALLIC_THRESH ? waste * metallicFraction : 0.0;
+            double plasticGlass = waste - paper - metallic;
+            long loads = TripPlanner.countLoads(waste, Utils.TRANSPORT_CAPACITY);
+
+            for (int slot = 0; slot < slots; slot++) {
+                if (needsMetallic[slot] && metallic <= 0) {
+                    continue;
+                }
+
+                samples[slot][counts[slot]++] = TripPlanner.travelDuration(loads, travelTimes[slot])
+                        + rates[slot].processDuration(plasticGlass, paper, metallic);
+            }
+        }
+
+        return new Batch(samples, counts);
+    }
+
+    private boolean withinTolerance(double[][] previous, double[][] current) {
+        for (int slot = 0; slot < current.length; slot++) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double before = previous[slot][i];
+                double after = current[slot][i];
+                if (Double.isNaN(before) != Double.isNaN(after)
+                        || Math.abs(after - before) > this.tolerance * Math.abs(before)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static double[][] deepCopy(double[][] values) {
+        double[][] copy = new double[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = values[i].clone();
+        }
+
+        return copy;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int bucket(Location location, Generation generation) {
+        return location.ordinal() * GENERATIONS + generation.ordinal();
+    }
+
+    private record Batch(double[][] samples, int[] counts) {
+    }
+
+    // Counts positive durations in buckets 1/4096 of a power of two wide, from 2^-16 to 2^48 hours, using the top bits
+    // of each double. A percentile is reported as the middle of its bucket, so it is within 0.013% of the sampled value,
+    // well inside the convergence tolerance; the smallest and largest samples are tracked exactly and bound the result.
+    private static final class DurationHistogram {
+        private static final int MANTISSA_BITS = 12;
+        private static final int SHIFT = 52 - MANTISSA_BITS;
+        private static final long FIRST = Double.doubleToRawLongBits(0x1p-16) >>> SHIFT;
+        private static final long LAST = Double.doubleToRawLongBits(0x1p48) >>> SHIFT;
+
+        // Bucket 0 holds durations below 2^-16 hours; the last bucket holds everything from 2^48 up.
+        private final int[] counts = new int[(int) (LAST - FIRST) + 2];
+        private int count;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        void addAll(double[] samples, int sampleCount) {
+            for (int i = 0; i < sampleCount; i++) {
+                double sample = samples[i];
+                this.counts[bucket(sample)]++;
+                this.min = Math.min(this.min, sample);
+                this.max = Math.max(this.max, sample);
+            }
+            this.count += sampleCount;
+        }
+
+        int getCount() {
+            return this.count;
+        }
+
+        // Nearest-rank percentiles, or NaN if nothing has been added.
+        double[] quantiles(double[] percentiles) {
+            double[] quantiles = new double[percentiles.length];
+            if (this.count == 0) {
+                Arrays.fill(quantiles, Double.NaN);
+                return quantiles;
+            }
+
+            int bucket = 0;
+            long seen = this.counts[0];
+            for (int i = 0; i < percentiles.length; i++) {
+                long rank = Math.max(1, (long) Math.ceil(percentiles[i] * this.count));
+                while (seen < rank) {
+                    seen += this.counts[++bucket];
+                }
+                quantiles[i] = Math.max(this.min, Math.min(this.max, middleOf(bucket)));
+            }
+
+            return quantiles;
+        }
+
+        private static int bucket(double duration) {
+            if (!(duration >= 0x1p-16)) {
+                return 0;
+            }
+
+            long top = Double.doubleToRawLongBits(duration) >>> SHIFT;
+            return (int) (Math.min(top, LAST) - FIRST) + 1;
+        }
+
+        private static double middleOf(int bucket) {
+            if (bucket == 0) {
+                return 0.0;
+            }
+
+            long top = FIRST + bucket - 1;
+            double lower = Double.longBitsToDouble(top << SHIFT);
+            double upper = Double.longBitsToDouble((top + 1) << SHIFT);
+            return (lower + upper) / 2;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+import java.util.List;
+
+// Results for every historic site in a scenario, in the order the sites were added.
+public class MultiSiteResult {
+
+    private final List<ScenarioResult> siteResults;
+
+    public MultiSiteResult(List<ScenarioResult> siteResults) {
+        this.siteResults = List.copyOf(siteResults);
+    }
+
+    public List<ScenarioResult> getSiteResults() {
+        return this.siteResults;
+    }
+
+    public double getTotalTravelDuration() {
+        double total = 0.0;
+        for (ScenarioResult result : this.siteResults) {
+            total += result.getTravelDuration();
+        }
+
+        return total;
+    }
+
+    public double getTotalProcessDuration() {
+        double total = 0.0;
+        for (ScenarioResult result : this.siteResults) {
+            total += result.getProcessDuration();
+        }
+
+        return total;
+    }
+
+    public double getTotalDuration() {
+        return getTotalTravelDuration() + getTotalProcessDuration();
+    }
+
+    // If every site is worked at the same time, the region is finished when the slowest site is.
+    public double getLongestDuration() {
+        double longest = 0.0;
+        for (ScenarioResult result : this.siteResults) {
+            longest = Math.max(longest, result.getTotalDuration());
+        }
+
+        return longest;
+    }
+}
@@ -0,0 +1,8 @@
+import models.Historic;
+import models.Recycling;
+
+// Notified when the optimal recycling centre for a historic site changes. Either centre may be null.
+@FunctionalInterface
+public interface OptimalCentreListener {
+    void optimalCentreChanged(Historic historic, Recycling previous, Recycling current);
+}
@@ -0,0 +1,125 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flight recorder events for each stage of the scenario pipeline. Start a recording with
+// -XX:StartFlightRecording (or from JDK Mission Control) to see where a slow run spent its time.
+//
+// Each stage creates its event, calls begin() before the work and only fills in and commits it if shouldCommit()
+// says the event is enabled, so a disabled event costs next to nothing. Events are only emitted from the public stage
+// methods (findViableCentres, findOptimalCentre, calculateTravelDuration, calculateProcessDuration and
+// ScenarioRunner.run), not from the helpers that rankings and indexes call once per candidate, so a recording holds
+// one event per stage. ScenarioRunner records selection itself when it selects without Utils.findOptimalCentre.
+final class PipelineEvents {
+
+    private static final String CATEGORY = "Waste Service";
+
+    private PipelineEvents() {
+    }
+
+    @Name("workerService.FindViableCentres")
+    @Label("Find Viable Centres")
+    @Category({CATEGORY, "Selection"})
+    @StackTrace(false)
+    static final class FindViableCentres extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Candidate Centres")
+        int candidateCount;
+
+        @Label("Viable Centres")
+        int viableCount;
+    }
+
+    @Name("workerService.FindOptimalCentre")
+    @Label("Find Optimal Centre")
+    @Category({CATEGORY, "Selection"})
+    @StackTrace(false)
+    static final class FindOptimalCentre extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Candidate Centres")
+        int candidateCount;
+
+        @Label("Viable Centres")
+        @Description("Candidates that passed the viability check, or -1 when the selection did not count them")
+        int viableCount;
+
+        @Label("Viability Checked")
+        @Description("True when non-viable candidates were skipped during selection")
+        boolean viableOnly;
+
+        @Label("Optimal Centre Location")
+        String centreLocation;
+
+        @Label("Optimal Centre Generation")
+        String centreGeneration;
+    }
+
+    @Name("workerService.CalculateTravelDuration")
+    @Label("Calculate Travel Duration")
+    @Category({CATEGORY, "Duration"})
+    @StackTrace(false)
+    static final class CalculateTravelDuration extends Event {
+        @Label("Remaining Waste (m3)")
+        double remainingWaste;
+
+        @Label("Trips")
+        long trips;
+
+        @Label("Journey Time (hours)")
+        double travelTime;
+
+        @Label("Travel Duration (hours)")
+        double travelDuration;
+    }
+
+    @Name("workerService.CalculateProcessDuration")
+    @Label("Calculate Process Duration")
+    @Category({CATEGORY, "Duration"})
+    @StackTrace(false)
+    static final class CalculateProcessDuration extends Event {
+        @Label("Centre Generation")
+        String centreGeneration;
+
+        @Label("Waste (m3)")
+        double waste;
+
+        @Label("Process Duration (hours)")
+        double processDuration;
+    }
+
+    @Name("workerService.RunScenario")
+    @Label("Run Scenario")
+    @Category(CATEGORY)
+    static final class RunScenario extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Remaining Waste (m3)")
+        double remainingWaste;
+
+        @Label("Candidate Centres")
+        int candidateCount;
+
+        @Label("Selection Mode")
+        String selectionMode;
+
+        @Label("Optimal Centre Location")
+        String centreLocation;
+
+        @Label("Optimal Centre Generation")
+        String centreGeneration;
+
+        @Label("Travel Duration (hours)")
+        double travelDuration;
+
+        @Label("Process Duration (hours)")
+        double processDuration;
+    }
+}
@@ -0,0 +1,40 @@
+import models.RateTable;
+import models.Trip;
+
+import java.util.function.Consumer;
+
+// Streaming makespan for a recycling centre that starts processing as soon as the first load arrives.
+// Loads are processed in arrival order on the centre's single processing line, each taking the sum of its
+// per-type volumes over the centre's rates (as calculateProcessDuration does for the whole site). Only the
+// time the line next becomes free is kept, so any number of loads can be fed through in constant memory.
+public final class PipelinedMakespan implements Consumer<Trip> {
+
+    private final RateTable rates;
+    private double finishTime;
+    private long loads;
+
+    public PipelinedMakespan(RateTable rates) {
+        this.rates = rates;
+    }
+
+    // Loads must be fed in order of arrival.
+    public void accept(double arrivalTime, double plasticGlass, double paper, double metallic) {
+        double processTime = this.rates.processDuration(plasticGlass, paper, metallic);
+        this.finishTime = Math.max(this.finishTime, arrivalTime) + processTime;
+        this.loads++;
+    }
+
+    @Override
+    public void accept(Trip trip) {
+        accept(trip.getArrivalTime(), trip.getPlasticGlassWaste(), trip.getPaperWaste(), trip.getMetallicWaste());
+    }
+
+    public long getLoads() {
+        return this.loads;
+    }
+
+    // Time at which the centre finishes processing every load fed in so far.
+    public double getMakespan() {
+        return this.finishTime;
+    }
+}
@@ -0,0 +1,45 @@
+import models.Recycling;
+
+// One viable centre in a ranking, with the durations it would give.
+public class RankedCentre {
+
+    private final Recycling centre;
+    private final int index;
+    private final double travelTime;
+    private final double travelDuration;
+    private final double processDuration;
+
+    public RankedCentre(Recycling centre, int index, double travelTime, double travelDuration, double processDuration) {
+        this.centre = centre;
+        this.index = index;
+        this.travelTime = travelTime;
+        this.travelDuration = travelDuration;
+        this.processDuration = processDuration;
+    }
+
+    public Recycling getCentre() {
+        return this.centre;
+    }
+
+    // Position of the centre in the candidate list.
+    public int getIndex() {
+        return this.index;
+    }
+
+    // Time for a single journey from the historic site.
+    public double getTravelTime() {
+        return this.travelTime;
+    }
+
+    public double getTravelDuration() {
+        return this.travelDuration;
+    }
+
+    public double getProcessDuration() {
+        return this.processDuration;
+    }
+
+    public double getTotalDuration() {
+        return this.travelDuration + this.processDuration;
+    }
+}
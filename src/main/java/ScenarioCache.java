@@ -0,0 +1,219 @@
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Caches scenario results so repeated (historic site, centre list) combinations are not worked out again.
+//
+// The key is a canonical fingerprint of the scenario: the historic location and waste volumes, plus the least years
+// active among the centres of each location and generation. Only that centre can win its bucket, so two centre lists
+// with the same fingerprint pick the same kind of centre whatever their order or duplicates. On a hit the result is
+// rebuilt around the caller's own historic site and the first such centre in the caller's list.
+//
+// Building the key still takes one pass over the centre list, which is about what a miss costs since selection became
+// a single linear scan. A hit only saves the duration arithmetic and the stage timings, so the cache pays off for
+// batches that repeat scenarios with short centre lists, and BatchRunner leaves it off unless asked for.
+//
+// Entries are split over independently locked LRU segments, so threads only contend when they hit the same segment.
+public final class ScenarioCache {
+
+    private static final int GENERATIONS = Generation.values().length;
+    private static final Location[] LOCATIONS = Location.values();
+    private static final int BUCKETS = LOCATIONS.length * GENERATIONS;
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ScenarioCache(int maximumSize) {
+        if (maximumSize < SEGMENTS) {
+            throw new IllegalArgumentException("Cache must hold at least " + SEGMENTS + " results.");
+        }
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            // Spread any remainder over the first few segments, so the total is exactly maximumSize.
+            this.segments[i] = new Segment(maximumSize / SEGMENTS + (i < maximumSize % SEGMENTS ? 1 : 0), this.evictions);
+        }
+    }
+
+    // A single result can only describe one site, so configurations with several sites go through runAll.
+    public ScenarioResult run(ScenarioConfiguration scenarioConfiguration) {
+        if (scenarioConfiguration.getHistorics().size() > 1) {
+            throw new IllegalArgumentException("Configuration has more than one historic site; use runAll.");
+        }
+
+        return run(scenarioConfiguration.getHistoric(), scenarioConfiguration.getRecycling());
+    }
+
+    // Runs every historic site against the shared centre list in parallel, as ScenarioRunner.runAll does, but through
+    // the cache.
+    public MultiSiteResult runAll(ScenarioConfiguration scenarioConfiguration) {
+        List<Recycling> centres = scenarioConfiguration.getRecycling();
+        List<ScenarioResult> siteResults = scenarioConfiguration.getHistorics().parallelStream()
+                .map(historic -> run(historic, centres))
+                .toList();
+
+        return new MultiSiteResult(siteResults);
+    }
+
+    public ScenarioResult run(Historic historic, List<Recycling> centres) {
+        long start = System.nanoTime();
+
+        // One pass finds the least years active in each bucket and the first centre to have it.
+        int[] leastYearsActive = new int[BUCKETS];
+        Recycling[] bucketWinners = new Recycling[BUCKETS];
+        for (Recycling centre : centres) {
+            int bucket = bucket(centre.getLocation(), centre.getGenerationType());
+            if (bucketWinners[bucket] == null || centre.getYearsActive() < leastYearsActive[bucket]) {
+                bucketWinners[bucket] = centre;
+                leastYearsActive[bucket] = centre.getYearsActive();
+            }
+        }
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (bucketWinners[bucket] == null) {
+                leastYearsActive[bucket] = -1;
+            }
+        }
+
+        Key key = new Key(historic, leastYearsActive);
+        Segment segment = this.segments[key.hashCode() & (SEGMENTS - 1)];
+
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+
+        if (entry != null) {
+            this.hits.increment();
+            Recycling optimalCentre = bucketWinners[entry.bucket()];
+            // The stages were not run, but the scenario was still answered, so it counts towards the scenario metrics.
+            ScenarioMetrics.recordScenario(historic.getLocation(), optimalCentre.getGenerationType(), System.nanoTime() - start);
+            return new ScenarioResult(historic, optimalCentre, entry.travelDuration(), entry.processDuration());
+        }
+
+        // Run outside the lock; if two threads miss on the same key, both compute the same result.
+        this.misses.increment();
+        ScenarioResult result = ScenarioRunner.run(historic, centres);
+        Recycling optimalCentre = result.getOptimalCentre();
+        entry = new Entry(bucket(optimalCentre.getLocation(), optimalCentre.getGenerationType()),
+                result.getTravelDuration(), result.getProcessDuration());
+
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+
+        return result;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    private static int bucket(Location location, Generation generation) {
+        return location.ordinal() * GENERATIONS + generation.ordinal();
+    }
+
+    // The result of a scenario, without references to the objects it was worked out from.
+    private record Entry(int bucket, double travelDuration, double processDuration) {
+    }
+
+    private static final class Key {
+        private final Location location;
+        private final double remainingWaste;
+        private final double plasticGlass;
+        private final double paper;
+        private final double metallic;
+        private final int[] leastYearsActive;
+        private final int hash;
+
+        Key(Historic historic, int[] leastYearsActive) {
+            this.location = historic.getLocation();
+            this.remainingWaste = historic.getRemainingWaste();
+            this.plasticGlass = historic.getPlasticGlass();
+            this.paper = historic.getPaper();
+            this.metallic = historic.getMetallic();
+            this.leastYearsActive = leastYearsActive;
+
+            int hash = this.location.hashCode();
+            hash = 31 * hash + Double.hashCode(this.remainingWaste);
+            hash = 31 * hash + Double.hashCode(this.plasticGlass);
+            hash = 31 * hash + Double.hashCode(this.paper);
+            hash = 31 * hash + Double.hashCode(this.metallic);
+            hash = 31 * hash + Arrays.hashCode(leastYearsActive);
+            this.hash = hash ^ (hash >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+
+            return this.location == other.location
+                    && Double.compare(this.remainingWaste, other.remainingWaste) == 0
+                    && Double.compare(this.plasticGlass, other.plasticGlass) == 0
+                    && Double.compare(this.paper, other.paper) == 0
+                    && Double.compare(this.metallic, other.metallic) == 0
+                    && Arrays.equals(this.leastYearsActive, other.leastYearsActive);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    // An access-ordered map that drops its least recently used entry once full. Callers lock the segment.
+    private static final class Segment extends LinkedHashMap<Key, Entry> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > this.capacity) {
+                this.evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
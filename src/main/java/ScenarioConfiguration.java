@@ -1,36 +1,226 @@
 import models.Historic;
+import models.Location;
 import models.Recycling;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ScenarioConfiguration {
 
-    private Historic historic;
-    private List<Recycling> recycling;
+    // A scenario can hold many historic sites, all sharing the same recycling centres.
+    private final List<Historic> historics = new ArrayList<>();
+
+    // Centres in the order they were added, keyed by when they were added, so removing one takes logarithmic time
+    // rather than a scan of the list. positions finds a centre's keys, earliest first, as List.remove would.
+    private final NavigableMap<Long, Recycling> recycling = new TreeMap<>();
+    private final Map<Recycling, ArrayDeque<Long>> positions = new IdentityHashMap<>();
+    private long nextPosition;
+    // What getRecycling returns, rebuilt on the first call after the centres change. Null until then.
+    private List<Recycling> recyclingList = List.of();
+
+    // Each site's optimal centre is kept up to date as centres are added and removed, rather than recomputed at run time.
+    // The index is only built once an optimal centre or listener is first asked for, so configurations that are just
+    // run through the Utils pipeline never pay for it. Null until then.
+    private volatile CentreIndex centreIndex;
+    // Keyed on the site, but each entry remembers the location and metallic waste it was worked out for, since
+    // either can change on the site afterwards and decide which centres are viable.
+    private final Map<Historic, Optimum> optimalCentres = new IdentityHashMap<>();
+    private final List<OptimalCentreListener> listeners = new CopyOnWriteArrayList<>();
 
     public ScenarioConfiguration() {
-        this.recycling = new ArrayList<>();
     }
 
+    // The centres are copied, so later changes to the given list do not affect this configuration.
     public ScenarioConfiguration(Historic historic, List<Recycling> recycling) {
-        this.historic = historic;
-        this.recycling = recycling;
+        Objects.requireNonNull(recycling, "Recycling centres cannot be null.");
+        for (Recycling centre : recycling) {
+            addCentre(centre);
+        }
+        if (historic != null) {
+            this.historics.add(historic);
+        }
     }
 
+    // The first historic site, or null if there are none.
     public Historic getHistoric() {
-        return this.historic;
+        return this.historics.isEmpty() ? null : this.historics.getFirst();
     }
 
+    // Replaces all historic sites with the given one.
     public void setHistoric(Historic historic) {
-        this.historic = historic;
+        for (Historic removed : List.copyOf(this.historics)) {
+            removeHistoric(removed);
+        }
+
+        if (historic != null) {
+            addHistoric(historic);
+        }
     }
 
+    public List<Historic> getHistorics() {
+        return Collections.unmodifiableList(this.historics);
+    }
+
+    public void addHistoric(Historic historic) {
+        this.historics.add(historic);
+        if (this.centreIndex != null) {
+            updateOptimalCentre(historic);
+        }
+    }
+
+    public boolean removeHistoric(Historic historic) {
+        if (!this.historics.remove(historic)) {
+            return false;
+        }
+
+        if (this.centreIndex != null && !this.historics.contains(historic)) {
+            Optimum previous = this.optimalCentres.remove(historic);
+            notifyListeners(historic, previous == null ? null : previous.centre(), null);
+        }
+        return true;
+    }
+
+    // Read-only, so centres can only change through addRecycling and removeRecycling, which keep the index in step.
     public List<Recycling> getRecycling() {
-        return this.recycling;
+        List<Recycling> recyclingList = this.recyclingList;
+        if (recyclingList == null) {
+            recyclingList = List.copyOf(this.recycling.values());
+            this.recyclingList = recyclingList;
+        }
+
+        return recyclingList;
     }
 
     public void addRecycling(Recycling additionalRecycling) {
-        this.recycling.add(additionalRecycling);
+        addCentre(additionalRecycling);
+        if (this.centreIndex != null) {
+            this.centreIndex.add(additionalRecycling);
+            updateOptimalCentres();
+        }
+    }
+
+    // Removes the earliest added occurrence of the centre, in logarithmic time. Returns false if it is not present.
+    public boolean removeRecycling(Recycling removedRecycling) {
+        ArrayDeque<Long> occurrences = this.positions.get(removedRecycling);
+        if (occurrences == null) {
+            return false;
+        }
+
+        this.recycling.remove(occurrences.pollFirst());
+        if (occurrences.isEmpty()) {
+            this.positions.remove(removedRecycling);
+        }
+        this.recyclingList = null;
+
+        if (this.centreIndex != null) {
+            this.centreIndex.remove(removedRecycling);
+            updateOptimalCentres();
+        }
+        return true;
+    }
+
+    private void addCentre(Recycling centre) {
+        Objects.requireNonNull(centre, "Recycling centre cannot be null.");
+
+        long position = this.nextPosition++;
+        this.recycling.put(position, centre);
+        this.positions.computeIfAbsent(centre, c -> new ArrayDeque<>(1)).addLast(position);
+        this.recyclingList = null;
+    }
+
+    // The optimal viable centre for the first historic site, or null if there is no historic site or viable centre.
+    public Recycling getOptimalCentre() {
+        Historic historic = getHistoric();
+        return historic == null ? null : getOptimalCentre(historic);
+    }
+
+    // If the site's location or metallic waste has changed since its optimal centre was worked out, it is worked out
+    // again (in constant time, from the index) and listeners are told if it changed.
+    public Recycling getOptimalCentre(Historic historic) {
+        buildCentreIndex();
+        synchronized (this.optimalCentres) {
+            Optimum optimum = this.optimalCentres.get(historic);
+            if (optimum != null && !optimum.isFor(historic)) {
+                updateOptimalCentre(historic);
+                optimum = this.optimalCentres.get(historic);
+            }
+
+            return optimum == null ? null : optimum.centre();
+        }
+    }
+
+    public void addOptimalCentreListener(OptimalCentreListener listener) {
+        // Changes can only be reported once there is an optimal centre to compare against.
+        buildCentreIndex();
+        this.listeners.add(listener);
+    }
+
+    public void removeOptimalCentreListener(OptimalCentreListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    // Runs can ask for optimal centres from many threads at once (see ScenarioRunner.runAll), so the index is built
+    // under a lock and only published once every site's optimal centre is filled in.
+    private void buildCentreIndex() {
+        if (this.centreIndex != null) {
+            return;
+        }
+
+        synchronized (this.optimalCentres) {
+            if (this.centreIndex == null) {
+                // No listener can be registered before the index exists, so there is nobody to notify yet.
+                CentreIndex centreIndex = new CentreIndex(getRecycling());
+                for (Historic historic : this.historics) {
+                    this.optimalCentres.put(historic, Optimum.of(historic, centreIndex.findOptimalCentre(historic)));
+                }
+                this.centreIndex = centreIndex;
+            }
+        }
+    }
+
+    private void updateOptimalCentres() {
+        for (Historic historic : this.historics) {
+            updateOptimalCentre(historic);
+        }
+    }
+
+    // Listeners only hear about changes to a site's optimal centre, not every edit to the centre list.
+    private void updateOptimalCentre(Historic historic) {
+        Optimum optimum = this.optimalCentres.get(historic);
+        Recycling previous = optimum == null ? null : optimum.centre();
+        Recycling current = this.centreIndex.findOptimalCentre(historic);
+
+        this.optimalCentres.put(historic, Optimum.of(historic, current));
+        notifyListeners(historic, previous, current);
+    }
+
+    private void notifyListeners(Historic historic, Recycling previous, Recycling current) {
+        if (previous == current) {
+            return;
+        }
+
+        for (OptimalCentreListener listener : this.listeners) {
+            listener.optimalCentreChanged(historic, previous, current);
+        }
+    }
+
+    // A site's optimal centre, with the inputs it depends on besides the centres themselves.
+    private record Optimum(Location location, boolean metallicPresent, Recycling centre) {
+
+        static Optimum of(Historic historic, Recycling centre) {
+            return new Optimum(historic.getLocation(), historic.getMetallic() > 0, centre);
+        }
+
+        boolean isFor(Historic historic) {
+            return this.location == historic.getLocation() && this.metallicPresent == (historic.getMetallic() > 0);
+        }
     }
 }
@@ -0,0 +1,64 @@
+import models.Generation;
+import models.Location;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Throughput and latency of the scenario pipeline, labelled by historic location and the chosen centre's generation.
+// Every handle is looked up once here, so recording from ScenarioRunner is a few lock-free array and counter updates.
+public final class ScenarioMetrics {
+
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    enum Stage {
+        SELECTION,
+        TRAVEL_DURATION,
+        PROCESS_DURATION
+    }
+
+    private static final Location[] LOCATIONS = Location.values();
+    private static final Generation[] GENERATIONS = Generation.values();
+
+    private static final LatencyHistogram[][][] STAGE_LATENCIES = new LatencyHistogram[Stage.values().length][LOCATIONS.length][GENERATIONS.length];
+    private static final LatencyHistogram[][] SCENARIO_LATENCIES = new LatencyHistogram[LOCATIONS.length][GENERATIONS.length];
+    private static final LongAdder[][] SCENARIOS = new LongAdder[LOCATIONS.length][GENERATIONS.length];
+    private static final LongAdder[] FAILURES = new LongAdder[LOCATIONS.length];
+
+    static {
+        for (Location location : LOCATIONS) {
+            for (Generation generation : GENERATIONS) {
+                String[] labels = {"location", location.name(), "generation", generation.name()};
+
+                for (Stage stage : Stage.values()) {
+                    STAGE_LATENCIES[stage.ordinal()][location.ordinal()][generation.ordinal()] = REGISTRY.histogram(
+                            "workerservice_stage_duration_seconds", "Time spent in each stage of a scenario.",
+                            "stage", stage.name().toLowerCase(), labels[0], labels[1], labels[2], labels[3]);
+                }
+
+                SCENARIO_LATENCIES[location.ordinal()][generation.ordinal()] = REGISTRY.histogram(
+                        "workerservice_scenario_duration_seconds", "Time taken to run a whole scenario.", labels);
+                SCENARIOS[location.ordinal()][generation.ordinal()] = REGISTRY.counter(
+                        "workerservice_scenarios_total", "Scenarios run to completion.", labels);
+            }
+
+            FAILURES[location.ordinal()] = REGISTRY.counter(
+                    "workerservice_scenario_failures_total", "Scenarios with no viable recycling centre.",
+                    "location", location.name());
+        }
+    }
+
+    private ScenarioMetrics() {
+    }
+
+    static void recordStage(Stage stage, Location location, Generation generation, long nanos) {
+        STAGE_LATENCIES[stage.ordinal()][location.ordinal()][generation.ordinal()].record(nanos);
+    }
+
+    static void recordScenario(Location location, Generation generation, long nanos) {
+        SCENARIO_LATENCIES[location.ordinal()][generation.ordinal()].record(nanos);
+        SCENARIOS[location.ordinal()][generation.ordinal()].increment();
+    }
+
+    static void recordFailure(Location location) {
+        FAILURES[location.ordinal()].increment();
+    }
+}
@@ -0,0 +1,37 @@
+import models.Historic;
+import models.Recycling;
+
+public class ScenarioResult {
+
+    private final Historic historic;
+    private final Recycling optimalCentre;
+    private final double travelDuration;
+    private final double processDuration;
+
+    public ScenarioResult(Historic historic, Recycling optimalCentre, double travelDuration, double processDuration) {
+        this.historic = historic;
+        this.optimalCentre = optimalCentre;
+        this.travelDuration = travelDuration;
+        this.processDuration = processDuration;
+    }
+
+    public Historic getHistoric() {
+        return this.historic;
+    }
+
+    public Recycling getOptimalCentre() {
+        return this.optimalCentre;
+    }
+
+    public double getTravelDuration() {
+        return this.travelDuration;
+    }
+
+    public double getProcessDuration() {
+        return this.processDuration;
+    }
+
+    public double getTotalDuration() {
+        return this.travelDuration + this.processDuration;
+    }
+}
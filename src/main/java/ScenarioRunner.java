@@ -0,0 +1,106 @@
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Runs the scenario pipeline without any console I/O, so it can be shared by the CLI and batch mode.
+public final class ScenarioRunner {
+
+    private ScenarioRunner() {
+    }
+
+    // Uses the optimal centre the configuration keeps up to date, rather than searching the centre list again.
+    public static ScenarioResult run(ScenarioConfiguration scenarioConfiguration) {
+        Historic historic = Objects.requireNonNull(scenarioConfiguration.getHistoric(), "Historic site cannot be null.");
+        return run(historic, scenarioConfiguration.getRecycling().size(), SelectionMode.RULE_CHAIN, true,
+                () -> scenarioConfiguration.getOptimalCentre(historic));
+    }
+
+    // Evaluates every historic site against the shared centre list in parallel. Each site's optimal centre is read
+    // from the configuration, which only builds its index once, however many sites ask.
+    public static MultiSiteResult runAll(ScenarioConfiguration scenarioConfiguration) {
+        int candidateCount = scenarioConfiguration.getRecycling().size();
+        List<ScenarioResult> siteResults = scenarioConfiguration.getHistorics().parallelStream()
+                .map(historic -> run(historic, candidateCount, SelectionMode.RULE_CHAIN, true,
+                        () -> scenarioConfiguration.getOptimalCentre(historic)))
+                .toList();
+
+        return new MultiSiteResult(siteResults);
+    }
+
+    public static ScenarioResult run(Historic historic, List<Recycling> centres) {
+        return run(historic, centres, SelectionMode.RULE_CHAIN);
+    }
+
+    public static ScenarioResult run(Historic historic, List<Recycling> centres, SelectionMode selectionMode) {
+        // The rule chain goes through Utils.findOptimalViableCentre, which records its own selection event.
+        boolean recordSelection = selectionMode != SelectionMode.RULE_CHAIN;
+        return run(historic, centres.size(), selectionMode, recordSelection, () -> switch (selectionMode) {
+            case RULE_CHAIN -> Utils.findOptimalViableCentre(historic, centres);
+            case MINIMUM_DURATION -> CostOptimizer.findFastestViableCentre(historic, centres);
+        });
+    }
+
+    // The stages after selection, which are the same however the optimal centre is found. recordSelection is set when
+    // the selection does not record its own event, i.e. the index and the minimum duration search. Both check viability
+    // per location and generation rather than per candidate, so they have no viable count to report.
+    private static ScenarioResult run(Historic historic, int candidateCount, SelectionMode selectionMode,
+                                      boolean recordSelection, Supplier<Recycling> selection) {
+        PipelineEvents.RunScenario event = new PipelineEvents.RunScenario();
+        event.begin();
+
+        PipelineEvents.FindOptimalCentre selectionEvent = new PipelineEvents.FindOptimalCentre();
+        selectionEvent.begin();
+
+        long started = System.nanoTime();
+        Recycling optimalCentre = selection.get();
+        if (recordSelection && selectionEvent.shouldCommit()) {
+            selectionEvent.historicLocation = historic.getLocation().name();
+            selectionEvent.candidateCount = candidateCount;
+            selectionEvent.viableCount = -1;
+            selectionEvent.viableOnly = true;
+            if (optimalCentre != null) {
+                selectionEvent.centreLocation = optimalCentre.getLocation().name();
+                selectionEvent.centreGeneration = optimalCentre.getGenerationType().name();
+            }
+            selectionEvent.commit();
+        }
+        if (optimalCentre == null) {
+            ScenarioMetrics.recordFailure(historic.getLocation());
+            throw new NoSuchElementException("No viable recycling centres.");
+        }
+        long selected = System.nanoTime();
+
+        double travelDuration = Utils.calculateTravelDuration(historic, optimalCentre);
+        long travelled = System.nanoTime();
+
+        double processDuration = Utils.calculateProcessDuration(historic, optimalCentre);
+        long processed = System.nanoTime();
+
+        Location location = historic.getLocation();
+        Generation generation = optimalCentre.getGenerationType();
+        ScenarioMetrics.recordStage(ScenarioMetrics.Stage.SELECTION, location, generation, selected - started);
+        ScenarioMetrics.recordStage(ScenarioMetrics.Stage.TRAVEL_DURATION, location, generation, travelled - selected);
+        ScenarioMetrics.recordStage(ScenarioMetrics.Stage.PROCESS_DURATION, location, generation, processed - travelled);
+        ScenarioMetrics.recordScenario(location, generation, processed - started);
+
+        if (event.shouldCommit()) {
+            event.historicLocation = location.name();
+            event.remainingWaste = historic.getRemainingWaste();
+            event.candidateCount = candidateCount;
+            event.selectionMode = selectionMode.name();
+            event.centreLocation = optimalCentre.getLocation().name();
+            event.centreGeneration = generation.name();
+            event.travelDuration = travelDuration;
+            event.processDuration = processDuration;
+            event.commit();
+        }
+
+        return new ScenarioResult(historic, optimalCentre, travelDuration, processDuration);
+    }
+}
@@ -0,0 +1,7 @@
+// How ScenarioRunner chooses a recycling centre among the viable ones.
+public enum SelectionMode {
+    // Nearest, then least years active, then highest generation (Utils.findOptimalCentre).
+    RULE_CHAIN,
+    // Least total duration, travel plus process (CostOptimizer.findFastestViableCentre).
+    MINIMUM_DURATION
+}
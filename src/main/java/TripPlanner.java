@@ -0,0 +1,44 @@
+import models.Historic;
+
+// Works out truckloads directly from the waste volumes, rather than modelling every transport journey.
+// Loads are filled in the same order as the original simulation: metallic, then plastic/glass, then paper.
+public final class TripPlanner {
+
+    private TripPlanner() {
+    }
+
+    // Number of loads needed to move the given volume, i.e. ceil(waste / capacity).
+    public static long countLoads(double waste, double capacity) {
+        if (waste <= 0) {
+            return 0;
+        }
+
+        return (long) Math.ceil(waste / capacity);
+    }
+
+    public static long countMetallicLoads(Historic historic, double capacity) {
+        return countLoadsCarrying(0.0, historic.getMetallic(), capacity);
+    }
+
+    public static long countPlasticGlassLoads(Historic historic, double capacity) {
+        return countLoadsCarrying(historic.getMetallic(), historic.getPlasticGlass(), capacity);
+    }
+
+    public static long countPaperLoads(Historic historic, double capacity) {
+        return countLoadsCarrying(historic.getMetallic() + historic.getPlasticGlass(), historic.getPaper(), capacity);
+    }
+
+    // Every load costs one journey, so the total is simply loads * journey time.
+    public static double travelDuration(long loads, double travelTime) {
+        return loads * travelTime;
+    }
+
+    // Counts the loads that carry any of the waste sitting between [before, before + amount) in the fill order.
+    static long countLoadsCarrying(double before, double amount, double capacity) {
+        if (amount <= 0) {
+            return 0;
+        }
+
+        return (long) Math.ceil((before + amount) / capacity) - (long) Math.floor(before / capacity);
+    }
+}
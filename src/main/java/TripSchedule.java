@@ -0,0 +1,141 @@
+import models.Historic;
+import models.Recycling;
+import models.TravelTimeMatrix;
+import models.Trip;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// A lazily generated, single-truck trip schedule between a historic site and a recycling centre.
+// Each trip is worked out from its index, so the schedule never holds more than one Trip at a time
+// and can be split into independent ranges for parallel consumers.
+public final class TripSchedule implements Iterable<Trip> {
+
+    private final Historic historic;
+    private final Recycling recyclingCentre;
+    private final double metallic;
+    private final double plasticGlass;
+    private final double paper;
+    private final double capacity;
+    private final double travelTime;
+    private final long loads;
+
+    public TripSchedule(Historic historic, Recycling recyclingCentre, double capacity) {
+        this.historic = historic;
+        this.recyclingCentre = recyclingCentre;
+        this.metallic = historic.getMetallic();
+        this.plasticGlass = historic.getPlasticGlass();
+        this.paper = historic.getPaper();
+        this.capacity = capacity;
+        this.travelTime = TravelTimeMatrix.STANDARD.between(historic.getLocation(), recyclingCentre.getLocation());
+        this.loads = TripPlanner.countLoads(this.metallic + this.plasticGlass + this.paper, capacity);
+    }
+
+    public long size() {
+        return this.loads;
+    }
+
+    public double getTravelTime() {
+        return this.travelTime;
+    }
+
+    public Trip get(long index) {
+        if (index < 0 || index >= this.loads) {
+            throw new IndexOutOfBoundsException("Trip index out of range: " + index);
+        }
+
+        // Loads are filled metallic first, then plastic/glass, then paper.
+        double from = index * this.capacity;
+        double to = Math.min(from + this.capacity, this.metallic + this.plasticGlass + this.paper);
+        double metallicEnd = this.metallic;
+        double plasticGlassEnd = metallicEnd + this.plasticGlass;
+
+        return new Trip(
+                index,
+                this.historic.getLocation(),
+                this.recyclingCentre.getLocation(),
+                overlap(from, to, 0.0, metallicEnd),
+                overlap(from, to, metallicEnd, plasticGlassEnd),
+                overlap(from, to, plasticGlassEnd, to),
+                index * this.travelTime,
+                (index + 1) * this.travelTime);
+    }
+
+    @Override
+    public Iterator<Trip> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<Trip> spliterator() {
+        return new TripSpliterator(0, this.loads);
+    }
+
+    public Stream<Trip> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Trip> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private static double overlap(double from, double to, double start, double end) {
+        return Math.max(0.0, Math.min(to, end) - Math.max(from, start));
+    }
+
+    private final class TripSpliterator implements Spliterator<Trip> {
+        private long next;
+        private final long end;
+
+        TripSpliterator(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Trip> action) {
+            if (this.next >= this.end) {
+                return false;
+            }
+
+            action.accept(get(this.next++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Trip> action) {
+            long index = this.next;
+            this.next = this.end;
+
+            for (; index < this.end; index++) {
+                action.accept(get(index));
+            }
+        }
+
+        @Override
+        public Spliterator<Trip> trySplit() {
+            long mid = (this.next + this.end) >>> 1;
+            if (mid <= this.next) {
+                return null;
+            }
+
+            Spliterator<Trip> prefix = new TripSpliterator(this.next, mid);
+            this.next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+}
@@ -1,6 +1,9 @@
+import models.Generation;
 import models.Historic;
+import models.HistoricSnapshot;
+import models.Location;
 import models.Recycling;
-import models.Transport;
+import models.TravelTimeMatrix;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -8,58 +11,229 @@ import java.util.stream.Collectors;
 // Sam @FourWallsSoft: I've made all methods on this public to make testing easier. Hope this helps!
 public final class Utils {
 
-    private static final double TRANSPORT_CAPACITY = 20d;
+    static final double TRANSPORT_CAPACITY = 20d;
+    static final double MAX_VIABLE_TRAVEL_TIME = 3d;
+    static final TravelTimeMatrix TRAVEL_TIMES = TravelTimeMatrix.STANDARD;
+
+    private static final Comparator<RankedCentre> BEST_FIRST = (a, b) -> compareRanks(
+            a.getTotalDuration(), a.getTravelTime(), a.getCentre(), a.getIndex(),
+            b.getTotalDuration(), b.getTravelTime(), b.getCentre(), b.getIndex());
 
     // Sam @FourWallsSoft: Finds viable recycling centres.
+    // Returns a read-only copy of the viable centres, in candidate order. candidateCentres is not modified, so one
+    // list can be shared by any number of scenarios, and later changes to it do not show up in the returned list.
     public static List<Recycling> findViableCentres(Historic historic, List<Recycling> candidateCentres) {
+        PipelineEvents.FindViableCentres event = new PipelineEvents.FindViableCentres();
+        event.begin();
+
+        BitSet viable = findViableMask(historic, candidateCentres);
 
-        // Sam @FourWallsSoft: First, check for metallic waste (if not present, only alpha and beta centres are viable)
-        if (historic.getMetallic() <= 0) {
-            candidateCentres.removeIf(c -> c.getGeneration().equals("Gamma"));
+        // Sam @FourWallsSoft: By this point, remaining candidates should be viable.
+        Recycling[] viableArray = new Recycling[viable.cardinality()];
+        int index = 0;
+        int next = 0;
+        for (Recycling candidateCentre : candidateCentres) {
+            if (viable.get(index++)) {
+                viableArray[next++] = candidateCentre;
+            }
         }
 
-        // Sam @FourWallsSoft: Second, create candidateTransports to determine journey times.
-        // Sam @FourWallsSoft: Note: Having to create candidateTransports is feeling a bit clunky, but should work. TODO: Refactor at next opportunity.
-        List<Recycling> toRemove = new ArrayList<Recycling>();
+        if (event.shouldCommit()) {
+            event.historicLocation = historic.getLocation().name();
+            event.candidateCount = candidateCentres.size();
+            event.viableCount = viableArray.length;
+            event.commit();
+        }
 
-        for (Recycling candidateCentre: candidateCentres) {
-            Transport candidateTransport = new Transport(historic.getLocation(), candidateCentre.getLocation());
-            double travelTime = candidateTransport.getTravelTime();
-            if (travelTime > 3) {
-                toRemove.add(candidateCentre);
+        return Collections.unmodifiableList(Arrays.asList(viableArray));
+    }
+
+    // Bit i is set when candidateCentres.get(i) is viable.
+    public static BitSet findViableMask(Historic historic, List<Recycling> candidateCentres) {
+        Objects.requireNonNull(historic, "Historic site cannot be null.");
+        Objects.requireNonNull(candidateCentres, "Candidate centres cannot be null.");
+
+        // A centre is viable if it is within 3 hours, and Gamma centres are only viable when there is metallic waste.
+        Location origin = historic.getLocation();
+        boolean gammaViable = historic.getMetallic() > 0;
+
+        BitSet viable = new BitSet(candidateCentres.size());
+        int index = 0;
+        for (Recycling candidateCentre : candidateCentres) {
+            if (isViable(candidateCentre, origin, gammaViable)) {
+                viable.set(index);
             }
+            index++;
         }
 
-        candidateCentres.removeAll(toRemove);
-
-        // Sam @FourWallsSoft: By this point, remaining candidates should be viable.
-        return candidateCentres;
+        return viable;
     }
 
     // Sam @FourWallsSoft: Finds the optimal centre.
+    // Equivalent to findNearestCentres, then findLeastYearsActive, then findHighestGenerations, taking the first
+    // remaining centre, but done in a single pass without building the intermediate lists.
     public static Recycling findOptimalCentre(Historic historic, List<Recycling> candidateCentres) {
-        List<Recycling> nearestCentres = findNearestCentres(historic, candidateCentres);
-        List<Recycling> youngestCentres = findLeastYearsActive(nearestCentres);
-        List<Recycling> highestGenerations = findHighestGenerations(youngestCentres);
+        Recycling optimalCentre = selectOptimalCentre(historic, candidateCentres, false);
+        if (optimalCentre == null) {
+            throw new NoSuchElementException();
+        }
+
+        return optimalCentre;
+    }
+
+    // Filters to viable centres and picks the optimal one in a single pass, without modifying candidateCentres.
+    // Returns null if no centre is viable.
+    public static Recycling findOptimalViableCentre(Historic historic, List<Recycling> candidateCentres) {
+        return selectOptimalCentre(historic, candidateCentres, true);
+    }
+
+    private static Recycling selectOptimalCentre(Historic historic, List<Recycling> candidateCentres, boolean viableOnly) {
+        PipelineEvents.FindOptimalCentre event = new PipelineEvents.FindOptimalCentre();
+        event.begin();
+
+        Location origin = historic.getLocation();
+        boolean gammaViable = historic.getMetallic() > 0;
+
+        int viableCount = 0;
+        Recycling optimalCentre = null;
+        double optimalTravelTime = 0.0;
+        int optimalYearsActive = 0;
+        int optimalGeneration = 0;
+
+        for (Recycling candidateCentre : candidateCentres) {
+            if (viableOnly && !isViable(candidateCentre, origin, gammaViable)) {
+                continue;
+            }
+            viableCount++;
+
+            double travelTime = TRAVEL_TIMES.between(origin, candidateCentre.getLocation());
+            int yearsActive = candidateCentre.getYearsActive();
+            int generation = candidateCentre.getGenerationType().ordinal();
+
+            // Nearest first, then least years active, then highest generation. Ties keep the earlier centre.
+            boolean better = optimalCentre == null
+                    || travelTime < optimalTravelTime
+                    || (travelTime == optimalTravelTime && (yearsActive < optimalYearsActive
+                    || (yearsActive == optimalYearsActive && generation > optimalGeneration)));
+
+            if (better) {
+                optimalCentre = candidateCentre;
+                optimalTravelTime = travelTime;
+                optimalYearsActive = yearsActive;
+                optimalGeneration = generation;
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.historicLocation = origin.name();
+            event.candidateCount = candidateCentres.size();
+            // Without the viability check the candidates are taken to be viable already.
+            event.viableCount = viableCount;
+            event.viableOnly = viableOnly;
+            if (optimalCentre != null) {
+                event.centreLocation = optimalCentre.getLocation().name();
+                event.centreGeneration = optimalCentre.getGenerationType().name();
+            }
+            event.commit();
+        }
+
+        return optimalCentre;
+    }
+
+    // Ranks the viable centres by total duration (travel plus process), keeping the best k in a bounded heap.
+    // Equal totals fall back to the findOptimalCentre rules: nearest, least years active, highest generation, earliest.
+    // Takes O(n log k) time and O(k) memory, and does not modify the historic site or the candidate list.
+    public static CentreRanking rankViableCentres(Historic historic, List<Recycling> candidateCentres, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Must rank at least one centre.");
+        }
+
+        HistoricSnapshot snapshot = historic.snapshot();
+        Location origin = snapshot.getLocation();
+        boolean gammaViable = snapshot.getMetallic() > 0;
+
+        // Every candidate carries the same waste, so the loads and waste volumes are the same for each of them.
+        double remainingWaste = snapshot.getRemainingWaste();
+        boolean lessThanOneLoad = remainingWaste < TRANSPORT_CAPACITY;
+        long loads = TripPlanner.countLoads(remainingWaste, TRANSPORT_CAPACITY);
+        double plasticGlass = snapshot.getPlasticGlass();
+        double paper = snapshot.getPaper();
+        double metallic = snapshot.getMetallic();
+
+        // Worst of the kept centres at the head, so it is the one replaced. Candidates are compared on their raw
+        // durations, and a RankedCentre is only built for one that makes it into the heap.
+        PriorityQueue<RankedCentre> best = new PriorityQueue<>(k, BEST_FIRST.reversed());
+        int index = 0;
+        for (Recycling candidateCentre : candidateCentres) {
+            if (isViable(candidateCentre, origin, gammaViable)) {
+                double travelTime = TRAVEL_TIMES.between(origin, candidateCentre.getLocation());
+                // Same as calculateTravelDuration and calculateProcessDuration, including -1 for less than one load.
+                double travelDuration = lessThanOneLoad ? -1.0 : TripPlanner.travelDuration(loads, travelTime);
+                double processDuration = candidateCentre.getRateTable().processDuration(plasticGlass, paper, metallic);
+
+                double totalDuration = travelDuration + processDuration;
+                RankedCentre worst = best.peek();
+                if (best.size() < k || compareRanks(totalDuration, travelTime, candidateCentre, index,
+                        worst.getTotalDuration(), worst.getTravelTime(), worst.getCentre(), worst.getIndex()) < 0) {
+                    if (best.size() == k) {
+                        best.poll();
+                    }
+                    best.add(new RankedCentre(candidateCentre, index, travelTime, travelDuration, processDuration));
+                }
+            }
+            index++;
+        }
+
+        List<RankedCentre> ranking = new ArrayList<>(best);
+        ranking.sort(BEST_FIRST);
+        return new CentreRanking(ranking);
+    }
+
+    // The one definition of the ranking order, on raw values so a candidate can be compared with a ranked centre
+    // before anything is allocated for it: least total duration, then nearest, least years active, highest
+    // generation and earliest in the candidate list. BEST_FIRST is built from it.
+    private static int compareRanks(double totalDuration, double travelTime, Recycling centre, int index,
+                                    double otherTotalDuration, double otherTravelTime, Recycling other,
+                                    int otherIndex) {
+        int order = Double.compare(totalDuration, otherTotalDuration);
+        if (order == 0) {
+            order = Double.compare(travelTime, otherTravelTime);
+        }
+        if (order == 0) {
+            order = Integer.compare(centre.getYearsActive(), other.getYearsActive());
+        }
+        if (order == 0) {
+            order = Integer.compare(other.getGenerationType().ordinal(), centre.getGenerationType().ordinal());
+        }
+        if (order == 0) {
+            order = Integer.compare(index, otherIndex);
+        }
 
-        return highestGenerations.getFirst();
+        return order;
     }
 
     public static List<Recycling> findNearestCentres(Historic historic, List<Recycling> candidateCentres) {
-        // Sam @FourWallsSoft: Create a list of travel times
-        List<Double> travelTimes = candidateCentres.stream().map(c -> {
-            Transport candidateTransport = new Transport(historic.getLocation(), c.getLocation());
-            return candidateTransport.getTravelTime();
-        }).toList();
+        Location origin = historic.getLocation();
 
         // Sam @FourWallsSoft: Find the minimum travel time
-        double minTravelTime = Collections.min(travelTimes);
+        double minTravelTime = Double.POSITIVE_INFINITY;
+        for (Recycling candidateCentre : candidateCentres) {
+            minTravelTime = Math.min(minTravelTime, TRAVEL_TIMES.between(origin, candidateCentre.getLocation()));
+        }
+
+        if (candidateCentres.isEmpty()) {
+            throw new NoSuchElementException();
+        }
 
         // Sam @FourWallsSoft: Filter the candidate centers with the minimum travel time
-        return candidateCentres.stream().filter(c -> {
-            Transport candidateTransport = new Transport(historic.getLocation(), c.getLocation());
-            return candidateTransport.getTravelTime() == minTravelTime;
-        }).toList();
+        List<Recycling> nearestCentres = new ArrayList<>();
+        for (Recycling candidateCentre : candidateCentres) {
+            if (TRAVEL_TIMES.between(origin, candidateCentre.getLocation()) == minTravelTime) {
+                nearestCentres.add(candidateCentre);
+            }
+        }
+
+        return Collections.unmodifiableList(nearestCentres);
     }
 
     public static List<Recycling> findHighestGenerations(List<Recycling> candidateCentres) {
@@ -67,28 +241,34 @@ public final class Utils {
             return Collections.emptyList();
         }
 
-        List<String> generations = Arrays.asList("Alpha", "Beta", "Gamma");
-        String highestGeneration = "Alpha"; // Start with the lowest generation
+        Generation highestGeneration = Generation.ALPHA; // Start with the lowest generation
 
         // Find the highest generation
         for (Recycling centre : candidateCentres) {
-            if (compareGenerations(centre.getGeneration(), highestGeneration) > 0) {
-                highestGeneration = centre.getGeneration();
+            if (centre.getGenerationType().ordinal() > highestGeneration.ordinal()) {
+                highestGeneration = centre.getGenerationType();
             }
         }
 
-        final String finalHighestGeneration = highestGeneration;
-
         // Collect all centres with the highest generation
-        return candidateCentres.stream()
-                .filter(centre -> centre.getGeneration().equalsIgnoreCase(finalHighestGeneration))
-                .collect(Collectors.toList());
+        List<Recycling> highestGenerations = new ArrayList<>();
+        for (Recycling centre : candidateCentres) {
+            if (centre.getGenerationType() == highestGeneration) {
+                highestGenerations.add(centre);
+            }
+        }
+
+        return highestGenerations;
     }
 
     // Sam @FourWallsSoft: Should return value greater than 0, when gen1 is greater than gen2
     public static int compareGenerations(String gen1, String gen2) {
-        List<String> generations = Arrays.asList("Alpha", "Beta", "Gamma");
-        return Integer.compare(generations.indexOf(gen1), generations.indexOf(gen2));
+        return Integer.compare(rank(Generation.fromName(gen1)), rank(Generation.fromName(gen2)));
+    }
+
+    // Unknown generations rank below Alpha.
+    private static int rank(Generation generation) {
+        return generation == null ? -1 : generation.ordinal();
     }
 
     public static List<Recycling> findLeastYearsActive(List<Recycling> candidateCentres) {
@@ -109,53 +289,99 @@ public final class Utils {
     }
 
     public static double calculateTravelDuration(Historic historic, Recycling recyclingCentre) {
+        return recordedTravelDuration(historic.getLocation(), historic.getRemainingWaste(),
+                recyclingCentre.getLocation());
+    }
+
+    // Same as calculateTravelDuration(Historic, Recycling), for a snapshot that many threads may share.
+    public static double calculateTravelDuration(HistoricSnapshot historic, Recycling recyclingCentre) {
+        return recordedTravelDuration(historic.getLocation(), historic.getRemainingWaste(),
+                recyclingCentre.getLocation());
+    }
+
+    // The travel stage as a whole, so it records one event per call. Code that compares many candidates calls
+    // travelDuration directly instead, rather than recording an event for each of them.
+    private static double recordedTravelDuration(Location origin, double remainingWaste, Location destination) {
+        PipelineEvents.CalculateTravelDuration event = new PipelineEvents.CalculateTravelDuration();
+        event.begin();
+
+        double travelDuration = travelDuration(origin, remainingWaste, destination);
+
+        // Less than one load is invalid input rather than a journey, so it is not recorded.
+        if (travelDuration >= 0 && event.shouldCommit()) {
+            event.remainingWaste = remainingWaste;
+            event.trips = TripPlanner.countLoads(remainingWaste, TRANSPORT_CAPACITY);
+            event.travelTime = TRAVEL_TIMES.between(origin, destination);
+            event.travelDuration = travelDuration;
+            event.commit();
+        }
+
+        return travelDuration;
+    }
+
+    // Depends only on its arguments, so the historic site can be evaluated against other centres afterwards.
+    static double travelDuration(Location origin, double remainingWaste, Location destination) {
         // Sam @FourWallsSoft: Handle invalid input.
-        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+        if (remainingWaste < TRANSPORT_CAPACITY) {
             return -1.0;
         }
 
-        // Sam @FourWallsSoft: Model/simulate transport journeys.
-        List<Transport> transportsUsed = new ArrayList<>();
-
-        while (historic.getRemainingWaste() > 0) {
-            Transport transport = new Transport(historic.getLocation(), recyclingCentre.getLocation());
+        // Work out the number of full loads up front instead of building a Transport per load.
+        long loads = TripPlanner.countLoads(remainingWaste, TRANSPORT_CAPACITY);
 
-            while (transport.getTotalWaste() < TRANSPORT_CAPACITY) {
-                if (historic.getMetallic() > 0) {
-                    double fillAmount = Math.min(historic.getMetallic(), TRANSPORT_CAPACITY);
-                    transport.setMetallicWaste(fillAmount);
-                } else if (historic.getPlasticGlass() > 0) {
-                    double fillAmount = Math.min(historic.getPlasticGlass(), TRANSPORT_CAPACITY);
-                    transport.setPlasticGlassWaste(fillAmount);
-                } else if (historic.getPaper() > 0){
-                    double fillAmount = Math.min(historic.getPaper(), TRANSPORT_CAPACITY);
-                    transport.setPaperWaste(fillAmount);
-                }
-            }
+        // Every load makes the same journey, so only one travel time is needed.
+        return TripPlanner.travelDuration(loads, TRAVEL_TIMES.between(origin, destination));
+    }
 
-            transportsUsed.add(transport);
+    // Lazily yields each load for dispatch sheets, without holding the whole schedule in memory.
+    public static TripSchedule scheduleTrips(Historic historic, Recycling recyclingCentre) {
+        return new TripSchedule(historic, recyclingCentre, TRANSPORT_CAPACITY);
+    }
 
-            historic.setRemainingWaste(historic.getRemainingWaste() - transport.getTotalWaste());
+    // Total duration when the centre starts processing each load as it arrives, rather than after the last
+    // delivery. Trips are generated and consumed one at a time, so memory use does not grow with the site.
+    // Returns -1 for less than one load of waste, like calculateTravelDuration.
+    public static double calculatePipelinedDuration(Historic historic, Recycling recyclingCentre) {
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1.0;
         }
 
-        // Sam @FourWallsSoft: Calculate travel time.
-        double travelTime = 0.0;
-        for (Transport transport : transportsUsed) {
-            travelTime += transport.getTravelTime();
-        }
+        PipelinedMakespan makespan = new PipelinedMakespan(recyclingCentre.getRateTable());
+        scheduleTrips(historic, recyclingCentre).forEach(makespan);
 
-        // Sam @FourWallsSoft: Return travel time.
-        return travelTime;
+        return makespan.getMakespan();
     }
 
     public static double calculateProcessDuration(Historic historic, Recycling recycling) {
-        double timeToProcessPlastic = historic.getPlasticGlass() / recycling.getRates().get(0);
-        double timeToProcessPaper = historic.getPaper() / recycling.getRates().get(1);
-        double timeToProcessMetallic = historic.getMetallic() / recycling.getRates().get(2);
+        return recordedProcessDuration(recycling, historic.getPlasticGlass(), historic.getPaper(),
+                historic.getMetallic());
+    }
 
-        return timeToProcessPlastic + timeToProcessPaper + timeToProcessMetallic;
+    public static double calculateProcessDuration(HistoricSnapshot historic, Recycling recycling) {
+        return recordedProcessDuration(recycling, historic.getPlasticGlass(), historic.getPaper(),
+                historic.getMetallic());
     }
 
+    private static double recordedProcessDuration(Recycling recycling, double plasticGlass, double paper,
+                                                  double metallic) {
+        PipelineEvents.CalculateProcessDuration event = new PipelineEvents.CalculateProcessDuration();
+        event.begin();
 
-}
+        // Rates are looked up by waste type, as the getRates() index order differs between generations.
+        double processDuration = recycling.getRateTable().processDuration(plasticGlass, paper, metallic);
+
+        if (event.shouldCommit()) {
+            event.centreGeneration = recycling.getGenerationType().name();
+            event.waste = plasticGlass + paper + metallic;
+            event.processDuration = processDuration;
+            event.commit();
+        }
+
+        return processDuration;
+    }
 
+    private static boolean isViable(Recycling centre, Location origin, boolean gammaViable) {
+        return TRAVEL_TIMES.between(origin, centre.getLocation()) <= MAX_VIABLE_TRAVEL_TIME
+                && (gammaViable || centre.getGenerationType() != Generation.GAMMA);
+    }
+}
@@ -0,0 +1,63 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import models.Historic;
+
+// SIMD version of WasteSweep.evaluateScalar. Only loaded when the jdk.incubator.vector module is present.
+final class VectorSweepKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+    private static final VectorSpecies<Long> LONGS =
+            VectorSpecies.of(long.class, VectorShape.forBitSize(DOUBLES.vectorBitSize()));
+
+    private VectorSweepKernel() {
+    }
+
+    // Evaluates whole vectors from the start of the arrays and returns how many points were done.
+    // The caller finishes the remainder with the scalar loop.
+    static int evaluate(double[] initialWaste, int[] historicLocations, int[] centreLocations, int[] generations,
+                        double[] travelDurations, double[] processDurations) {
+        int lanes = DOUBLES.length();
+        int bound = DOUBLES.loopBound(initialWaste.length);
+        int[] routes = new int[lanes];
+
+        for (int i = 0; i < bound; i += lanes) {
+            DoubleVector waste = DoubleVector.fromArray(DOUBLES, initialWaste, i);
+
+            // Waste split, as in Historic.estimateWasteSplit.
+            VectorMask<Double> hasMetallic = waste.compare(VectorOperators.GT, Historic.METALLIC_THRESH);
+            DoubleVector paper = waste.mul(0.5);
+            DoubleVector plasticGlass = paper.blend(waste.mul(0.3), hasMetallic);
+            DoubleVector metallic = DoubleVector.zero(DOUBLES).blend(waste.mul(0.2), hasMetallic);
+
+            // Loads are ceil(waste / capacity): truncate through long, then add one wherever that rounded down.
+            DoubleVector exact = waste.div(Utils.TRANSPORT_CAPACITY);
+            DoubleVector truncated = (DoubleVector) exact.convertShape(VectorOperators.D2L, LONGS, 0)
+                    .convertShape(VectorOperators.L2D, DOUBLES, 0);
+            DoubleVector loads = truncated.blend(truncated.add(1.0), exact.compare(VectorOperators.GT, truncated));
+
+            // Gather each point's travel time through its (historic, centre) route.
+            IntVector.fromArray(INTS, historicLocations, i)
+                    .mul(WasteSweep.LOCATIONS)
+                    .add(IntVector.fromArray(INTS, centreLocations, i))
+                    .intoArray(routes, 0);
+            DoubleVector travelTime = DoubleVector.fromArray(DOUBLES, WasteSweep.TRAVEL_TIMES, 0, routes, 0);
+
+            loads.mul(travelTime)
+                    .blend(-1.0, waste.compare(VectorOperators.LT, Utils.TRANSPORT_CAPACITY))
+                    .intoArray(travelDurations, i);
+
+            plasticGlass.div(DoubleVector.fromArray(DOUBLES, WasteSweep.PLASTIC_GLASS_RATES, 0, generations, i))
+                    .add(paper.div(DoubleVector.fromArray(DOUBLES, WasteSweep.PAPER_RATES, 0, generations, i)))
+                    .add(metallic.div(DoubleVector.fromArray(DOUBLES, WasteSweep.METALLIC_RATES, 0, generations, i)))
+                    .intoArray(processDurations, i);
+        }
+
+        return bound;
+    }
+}
@@ -0,0 +1,230 @@
+import models.Generation;
+import models.Historic;
+import models.HistoricSnapshot;
+import models.Location;
+import models.RateTable;
+import models.Recycling;
+import models.WasteType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.stream.IntStream;
+
+// Sends each waste stream of a historic site (plastic/glass, paper, metallic) to its own viable centre, choosing the
+// centres that finish soonest overall.
+//
+// Each stream is hauled separately, in full loads, and all streams travel at the same time. A centre starts
+// processing once every stream sent to it has arrived, then processes them one after another at its rate for each
+// type. The makespan is the time the last centre finishes.
+//
+// A stream's times only depend on its centre's location and generation, and a route never uses more centres of one
+// kind than there are streams, so the catalogue is first cut down to the three best centres (least years active,
+// earliest) of each (location, generation) bucket. The remaining combinations are searched in parallel,
+// trying each stream's fastest centres first and skipping any choice that alone takes longer than the best makespan
+// found so far. Equal makespans favour centres earlier in the findOptimalCentre order.
+public final class WasteRouter {
+
+    private static final WasteType[] STREAMS = WasteType.values();
+    private static final int GENERATIONS = Generation.values().length;
+    private static final int BUCKETS = Location.values().length * GENERATIONS;
+
+    private WasteRouter() {
+    }
+
+    public static WasteRouting route(Historic historic, List<Recycling> candidateCentres) {
+        HistoricSnapshot snapshot = historic.snapshot();
+        Location origin = snapshot.getLocation();
+        boolean gammaViable = snapshot.getMetallic() > 0;
+
+        double[] amounts = new double[STREAMS.length];
+        amounts[WasteType.PLASTIC_GLASS.ordinal()] = snapshot.getPlasticGlass();
+        amounts[WasteType.PAPER.ordinal()] = snapshot.getPaper();
+        amounts[WasteType.METALLIC.ordinal()] = snapshot.getMetallic();
+        int[] streams = IntStream.range(0, STREAMS.length).filter(stream -> amounts[stream] > 0).toArray();
+        if (streams.length == 0) {
+            return new WasteRouting(Map.of(), 0.0);
+        }
+
+        List<Candidate> candidates = representatives(origin, gammaViable, candidateCentres, streams.length);
+        if (candidates.isEmpty()) {
+            throw new NoSuchElementException("No viable recycling centres.");
+        }
+
+        // Haul and process time of every stream at every candidate, and each stream's candidates fastest first.
+        int count = candidates.size();
+        double[][] haul = new double[STREAMS.length][count];
+        double[][] process = new double[STREAMS.length][count];
+        int[][] fastestFirst = new int[STREAMS.length][];
+        for (int stream : streams) {
+            long loads = TripPlanner.countLoads(amounts[stream], Utils.TRANSPORT_CAPACITY);
+            for (int i = 0; i < count; i++) {
+                Candidate candidate = candidates.get(i);
+                haul[stream][i] = TripPlanner.travelDuration(loads, candidate.travelTime());
+                process[stream][i] = amounts[stream] / candidate.rates().getRate(STREAMS[stream]);
+            }
+            fastestFirst[stream] = IntStream.range(0, count).boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> haul[stream][i] + process[stream][i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        Search search = new Search(streams, haul, process, fastestFirst);
+        Route best = IntStream.range(0, count).parallel()
+                .mapToObj(search::bestStartingWith)
+                .filter(route -> route != null)
+                .min(Route.BEST_FIRST)
+                .orElseThrow();
+
+        Map<WasteType, Recycling> routing = new EnumMap<>(WasteType.class);
+        for (int k = 0; k < streams.length; k++) {
+            routing.put(STREAMS[streams[k]], candidates.get(best.assignment()[k]).centre());
+        }
+
+        return new WasteRouting(routing, best.makespan());
+    }
+
+    // The best few viable centres of each bucket, in findOptimalCentre order.
+    private static List<Candidate> representatives(Location origin, boolean gammaViable, List<Recycling> centres, int perBucket) {
+        Candidate[][] buckets = new Candidate[BUCKETS][perBucket];
+        long position = 0;
+        for (Recycling centre : centres) {
+            double travelTime = Utils.TRAVEL_TIMES.between(origin, centre.getLocation());
+            boolean viable = travelTime <= Utils.MAX_VIABLE_TRAVEL_TIME
+                    && (gammaViable || centre.getGenerationType() != Generation.GAMMA);
+
+            if (viable) {
+                Candidate[] kept = buckets[centre.getLocation().ordinal() * GENERATIONS + centre.getGenerationType().ordinal()];
+                Candidate candidate = new Candidate(centre, position, travelTime, centre.getRateTable());
+
+                // Insert by years active; an equal one added earlier stays ahead.
+                for (int slot = 0; slot < perBucket && candidate != null; slot++) {
+                    if (kept[slot] == null || centre.getYearsActive() < kept[slot].centre().getYearsActive()) {
+                        Candidate displaced = kept[slot];
+                        kept[slot] = candidate;
+                        candidate = displaced;
+                    }
+                }
+            }
+            position++;
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Candidate[] kept : buckets) {
+            for (Candidate candidate : kept) {
+                if (candidate != null) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::travelTime)
+                .thenComparingInt((Candidate candidate) -> candidate.centre().getYearsActive())
+                .thenComparingInt((Candidate candidate) -> -candidate.centre().getGenerationType().ordinal())
+                .thenComparingLong(Candidate::position));
+        return candidates;
+    }
+
+    private record Candidate(Recycling centre, long position, double travelTime, RateTable rates) {
+    }
+
+    // A centre for each stream, as indexes into the candidates, which are in findOptimalCentre order.
+    private record Route(int[] assignment, double makespan) {
+        static final Comparator<Route> BEST_FIRST = Comparator.comparingDouble(Route::makespan)
+                .thenComparing(Route::assignment, Arrays::compare);
+    }
+
+    private static final class Search {
+        private final int[] streams;
+        private final double[][] haul;
+        private final double[][] process;
+        private final int[][] fastestFirst;
+        // Best makespan found by any thread, used to cut the search short.
+        private final DoubleAccumulator bound = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+
+        Search(int[] streams, double[][] haul, double[][] process, int[][] fastestFirst) {
+            this.streams = streams;
+            this.haul = haul;
+            this.process = process;
+            this.fastestFirst = fastestFirst;
+        }
+
+        // The best route sending the first stream to the given candidate, or null if it cannot beat the bound.
+        Route bestStartingWith(int first) {
+            int[] assignment = new int[this.streams.length];
+            assignment[0] = first;
+            Route[] best = new Route[1];
+            search(assignment, 1, standalone(0, first), best);
+            return best[0];
+        }
+
+        private void search(int[] assignment, int depth, double lowerBound, Route[] best) {
+            // Only prune when strictly worse, so every route tied for the best makespan is still compared.
+            if (lowerBound > this.bound.get()) {
+                return;
+            }
+
+            if (depth == this.streams.length) {
+                Route route = new Route(assignment.clone(), makespan(assignment));
+                if (best[0] == null || Route.BEST_FIRST.compare(route, best[0]) < 0) {
+                    best[0] = route;
+                    this.bound.accumulate(route.makespan());
+                }
+                return;
+            }
+
+            for (int candidate : this.fastestFirst[this.streams[depth]]) {
+                double standalone = standalone(depth, candidate);
+                if (standalone > this.bound.get()) {
+                    break; // Every later candidate is slower still for this stream.
+                }
+
+                assignment[depth] = candidate;
+                search(assignment, depth + 1, Math.max(lowerBound, standalone), best);
+            }
+        }
+
+        // Time for one stream on its own at a candidate, a lower bound on any route using it.
+        private double standalone(int depth, int candidate) {
+            int stream = this.streams[depth];
+            return this.haul[stream][candidate] + this.process[stream][candidate];
+        }
+
+        private double makespan(int[] assignment) {
+            double makespan = 0.0;
+            for (int k = 0; k < assignment.length; k++) {
+                if (isGroupedEarlier(assignment, k)) {
+                    continue;
+                }
+
+                // Every stream sent to the same centre: it starts once the last arrives, then processes them in turn.
+                double lastArrival = 0.0;
+                double processing = 0.0;
+                for (int j = k; j < assignment.length; j++) {
+                    if (assignment[j] == assignment[k]) {
+                        lastArrival = Math.max(lastArrival, this.haul[this.streams[j]][assignment[j]]);
+                        processing += this.process[this.streams[j]][assignment[j]];
+                    }
+                }
+                makespan = Math.max(makespan, lastArrival + processing);
+            }
+
+            return makespan;
+        }
+
+        private static boolean isGroupedEarlier(int[] assignment, int k) {
+            for (int j = 0; j < k; j++) {
+                if (assignment[j] == assignment[k]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+import models.Recycling;
+import models.WasteType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Which centre each waste stream of a historic site is sent to, and when the last centre finishes.
+public class WasteRouting {
+
+    private final Map<WasteType, Recycling> centres;
+    private final double makespan;
+
+    public WasteRouting(Map<WasteType, Recycling> centres, double makespan) {
+        this.centres = centres.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(centres));
+        this.makespan = makespan;
+    }
+
+    // The centre for a waste stream, or null if the site has none of that waste.
+    public Recycling getCentre(WasteType wasteType) {
+        return this.centres.get(wasteType);
+    }
+
+    public Map<WasteType, Recycling> getCentres() {
+        return this.centres;
+    }
+
+    // Hours until every stream has been delivered and processed.
+    public double getMakespan() {
+        return this.makespan;
+    }
+}
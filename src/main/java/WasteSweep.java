@@ -0,0 +1,82 @@
+import models.Generation;
+import models.Historic;
+import models.Location;
+import models.RateTable;
+
+// Evaluates many scenarios at once from struct-of-arrays input, for sensitivity sweeps over initial waste.
+//
+// Point i is a historic site at historicLocations[i] (a Location ordinal) holding initialWaste[i] m3, served by a
+// centre at centreLocations[i] of generation generations[i] (a Generation ordinal). The waste split, travel duration
+// and process duration match Historic, Utils.calculateTravelDuration (including -1 below one full load) and
+// Utils.calculateProcessDuration, without creating a Historic per point.
+//
+// Uses SIMD kernels when the jdk.incubator.vector module is available (run with --add-modules jdk.incubator.vector),
+// and a scalar loop otherwise.
+public final class WasteSweep {
+
+    static final boolean VECTORISED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Travel times and rates laid out flat, so both kernels can look them up by ordinal.
+    static final int LOCATIONS = Location.values().length;
+    static final double[] TRAVEL_TIMES = new double[LOCATIONS * LOCATIONS];
+    static final double[] PLASTIC_GLASS_RATES = new double[Generation.values().length];
+    static final double[] PAPER_RATES = new double[Generation.values().length];
+    static final double[] METALLIC_RATES = new double[Generation.values().length];
+
+    static {
+        for (int from = 0; from < LOCATIONS; from++) {
+            for (int to = 0; to < LOCATIONS; to++) {
+                TRAVEL_TIMES[from * LOCATIONS + to] = Utils.TRAVEL_TIMES.between(from, to);
+            }
+        }
+
+        for (Generation generation : Generation.values()) {
+            RateTable rates = generation.getRateTable();
+            PLASTIC_GLASS_RATES[generation.ordinal()] = rates.getPlasticGlass();
+            PAPER_RATES[generation.ordinal()] = rates.getPaper();
+            METALLIC_RATES[generation.ordinal()] = rates.getMetallic();
+        }
+    }
+
+    private WasteSweep() {
+    }
+
+    public static void evaluate(double[] initialWaste, int[] historicLocations, int[] centreLocations, int[] generations,
+                                double[] travelDurations, double[] processDurations) {
+        int length = initialWaste.length;
+        if (historicLocations.length != length || centreLocations.length != length || generations.length != length
+                || travelDurations.length != length || processDurations.length != length) {
+            throw new IllegalArgumentException("All arrays must have the same length.");
+        }
+
+        int done = VECTORISED
+                ? VectorSweepKernel.evaluate(initialWaste, historicLocations, centreLocations, generations,
+                travelDurations, processDurations)
+                : 0;
+
+        evaluateScalar(done, length, initialWaste, historicLocations, centreLocations, generations,
+                travelDurations, processDurations);
+    }
+
+    static void evaluateScalar(int from, int to, double[] initialWaste, int[] historicLocations, int[] centreLocations,
+                               int[] generations, double[] travelDurations, double[] processDurations) {
+        for (int i = from; i < to; i++) {
+            double waste = initialWaste[i];
+            int generation = generations[i];
+
+            // Same split as Historic.estimateWasteSplit.
+            double paper = waste * 0.5;
+            boolean hasMetallic = waste > Historic.METALLIC_THRESH;
+            double plasticGlass = hasMetallic ? waste * 0.3 : waste * 0.5;
+            double metallic = hasMetallic ? waste * 0.2 : 0.0;
+
+            double travelTime = TRAVEL_TIMES[historicLocations[i] * LOCATIONS + centreLocations[i]];
+            long loads = TripPlanner.countLoads(waste, Utils.TRANSPORT_CAPACITY);
+
+            travelDurations[i] = waste < Utils.TRANSPORT_CAPACITY ? -1.0 : TripPlanner.travelDuration(loads, travelTime);
+            processDurations[i] = plasticGlass / PLASTIC_GLASS_RATES[generation]
+                    + paper / PAPER_RATES[generation]
+                    + metallic / METALLIC_RATES[generation];
+        }
+    }
+}
@@ -1,15 +1,13 @@
 package models;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class Alpha extends Recycling{
 
-    private final List<Double> rates;
+    private static final List<Double> RATES = List.of(1.0, 1.0, 1.0);
 
     public Alpha(Location location, int yearsActive) {
         super(location, yearsActive);
-        this.rates = List.of(1.0, 1.0, 1.0);
     }
 
     @Override
@@ -19,6 +17,11 @@ public class Alpha extends Recycling{
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return RATES;
+    }
+
+    @Override
+    public Generation getGenerationType() {
+        return Generation.ALPHA;
     }
 }
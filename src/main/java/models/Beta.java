@@ -4,11 +4,10 @@ import java.util.List;
 
 public class Beta extends Recycling{
 
-    private final List<Double> rates;
+    private static final List<Double> RATES = List.of(1.5, 1.5, 1.5);
 
     public Beta(Location location, int yearsActive) {
         super(location, yearsActive);
-        this.rates = List.of(1.5, 1.5, 1.5);
     }
 
     @Override
@@ -18,6 +17,11 @@ public class Beta extends Recycling{
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return RATES;
+    }
+
+    @Override
+    public Generation getGenerationType() {
+        return Generation.BETA;
     }
 }
@@ -4,11 +4,10 @@ import java.util.List;
 
 public class Gamma extends Recycling {
 
-    private final List<Double> rates;
+    private static final List<Double> RATES = List.of(1.5, 2.0, 3.0); // Sam @FourWallsSoft: plastic, metallic, paper
 
     public Gamma(Location location, int yearsActive) {
         super(location, yearsActive);
-        this.rates = List.of(1.5, 2.0, 3.0); // Sam @FourWallsSoft: plastic, metallic, paper
     }
 
     @Override
@@ -18,6 +17,11 @@ public class Gamma extends Recycling {
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return RATES;
+    }
+
+    @Override
+    public Generation getGenerationType() {
+        return Generation.GAMMA;
     }
 }
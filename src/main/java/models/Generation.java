@@ -0,0 +1,43 @@
+package models;
+
+// Recycling centre generations, declared oldest to newest so that ordinal() ranks them.
+public enum Generation {
+    ALPHA("Alpha", RateTable.ALPHA),
+    BETA("Beta", RateTable.BETA),
+    GAMMA("Gamma", RateTable.GAMMA);
+
+    private final String name;
+    private final RateTable rateTable;
+
+    Generation(String name, RateTable rateTable) {
+        this.name = name;
+        this.rateTable = rateTable;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public RateTable getRateTable() {
+        return this.rateTable;
+    }
+
+    // Returns null for anything other than "Alpha", "Beta" or "Gamma".
+    public static Generation fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        return switch (name) {
+            case "Alpha" -> ALPHA;
+            case "Beta" -> BETA;
+            case "Gamma" -> GAMMA;
+            default -> null;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
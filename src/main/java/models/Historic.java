@@ -3,7 +3,7 @@ package models;
 
 public class Historic extends Site {
 
-    private static final double METALLIC_THRESH = 1250.0;
+    public static final double METALLIC_THRESH = 1250.0;
     private double remainingWaste;
     private double remainingPlasticGlass;
     private double remainingPaper;
@@ -47,6 +47,10 @@ public class Historic extends Site {
         this.remainingMetallic = remainingMetallic;
     }
 
+    public HistoricSnapshot snapshot() {
+        return new HistoricSnapshot(getLocation(), remainingWaste, remainingPlasticGlass, remainingPaper, remainingMetallic);
+    }
+
     private void estimateWasteSplit(double initialWaste) {
         this.remainingPaper = initialWaste * 0.5;
 
@@ -0,0 +1,34 @@
+package models;
+
+// An immutable copy of a historic site's waste at one moment. Calculations against a snapshot cannot change it,
+// so one snapshot can be evaluated against any number of centres, on any number of threads.
+public final class HistoricSnapshot extends Site {
+    private final double remainingWaste;
+    private final double plasticGlass;
+    private final double paper;
+    private final double metallic;
+
+    public HistoricSnapshot(Location location, double remainingWaste, double plasticGlass, double paper, double metallic) {
+        super(location);
+        this.remainingWaste = remainingWaste;
+        this.plasticGlass = plasticGlass;
+        this.paper = paper;
+        this.metallic = metallic;
+    }
+
+    public double getRemainingWaste() {
+        return this.remainingWaste;
+    }
+
+    public double getPlasticGlass() {
+        return this.plasticGlass;
+    }
+
+    public double getPaper() {
+        return this.paper;
+    }
+
+    public double getMetallic() {
+        return this.metallic;
+    }
+}
@@ -0,0 +1,44 @@
+package models;
+
+// Processing rates (m3 per hour) for each kind of waste. One table is shared by every centre of a generation.
+public final class RateTable {
+
+    public static final RateTable ALPHA = new RateTable(1.0, 1.0, 1.0);
+    public static final RateTable BETA = new RateTable(1.5, 1.5, 1.5);
+    public static final RateTable GAMMA = new RateTable(1.5, 3.0, 2.0);
+
+    private final double plasticGlass;
+    private final double paper;
+    private final double metallic;
+
+    public RateTable(double plasticGlass, double paper, double metallic) {
+        this.plasticGlass = plasticGlass;
+        this.paper = paper;
+        this.metallic = metallic;
+    }
+
+    public double getPlasticGlass() {
+        return this.plasticGlass;
+    }
+
+    public double getPaper() {
+        return this.paper;
+    }
+
+    public double getMetallic() {
+        return this.metallic;
+    }
+
+    public double getRate(WasteType wasteType) {
+        return switch (wasteType) {
+            case PLASTIC_GLASS -> this.plasticGlass;
+            case PAPER -> this.paper;
+            case METALLIC -> this.metallic;
+        };
+    }
+
+    // Hours needed to process the given volumes, one waste type after another.
+    public double processDuration(double plasticGlassWaste, double paperWaste, double metallicWaste) {
+        return plasticGlassWaste / this.plasticGlass + paperWaste / this.paper + metallicWaste / this.metallic;
+    }
+}
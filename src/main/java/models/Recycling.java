@@ -16,5 +16,11 @@ public abstract class Recycling extends Site {
 
     public abstract String getGeneration();
 
+    public abstract Generation getGenerationType();
+
     public abstract List<Double> getRates();
+
+    public RateTable getRateTable() {
+        return getGenerationType().getRateTable();
+    }
 }
@@ -42,14 +42,6 @@ public class Transport {
     public double getTotalWaste() {return this.paperWaste + this.plasticGlassWaste + this.metallicWaste; }
 
     public double getTravelTime() {
-        if ((start == Location.A && end == Location.B) || (start == Location.B && end == Location.A)) {
-            return 2.0;
-        } else if ((start == Location.B && end == Location.C) || (start == Location.B && end == Location.B) ) {
-            return 3.0;
-        } else if ((start == Location.C && end == Location.A) || (start == Location.A && end == Location.C)) {
-            return 4.0;
-        } else { // must be travelling within the same location
-            return 1.0;
-        }
+        return TravelTimeMatrix.STANDARD.between(this.start, this.end);
     }
 }
@@ -0,0 +1,40 @@
+package models;
+
+// Travel times (in hours) between every pair of locations, held as one flat array indexed by Location ordinals.
+// STANDARD is the network from the spec; a larger network only needs a bigger matrix.
+public final class TravelTimeMatrix {
+
+    public static final TravelTimeMatrix STANDARD = new TravelTimeMatrix(new double[][]{
+            // to: A    B    C
+            {1.0, 2.0, 4.0}, // from A
+            {2.0, 1.0, 3.0}, // from B
+            {4.0, 3.0, 1.0}  // from C
+    });
+
+    private final int size;
+    private final double[] hours;
+
+    public TravelTimeMatrix(double[][] hours) {
+        this.size = hours.length;
+        this.hours = new double[this.size * this.size];
+
+        for (int from = 0; from < this.size; from++) {
+            if (hours[from].length != this.size) {
+                throw new IllegalArgumentException("Travel time matrix must be square.");
+            }
+            System.arraycopy(hours[from], 0, this.hours, from * this.size, this.size);
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public double between(Location from, Location to) {
+        return this.hours[from.ordinal() * this.size + to.ordinal()];
+    }
+
+    public double between(int from, int to) {
+        return this.hours[from * this.size + to];
+    }
+}
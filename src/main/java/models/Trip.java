@@ -0,0 +1,60 @@
+package models;
+
+public class Trip {
+    private final long index;
+    private final Location start;
+    private final Location end;
+    private final double metallicWaste;
+    private final double plasticGlassWaste;
+    private final double paperWaste;
+    private final double departureTime;
+    private final double arrivalTime;
+
+    public Trip(long index, Location start, Location end, double metallicWaste, double plasticGlassWaste,
+                double paperWaste, double departureTime, double arrivalTime) {
+        this.index = index;
+        this.start = start;
+        this.end = end;
+        this.metallicWaste = metallicWaste;
+        this.plasticGlassWaste = plasticGlassWaste;
+        this.paperWaste = paperWaste;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public long getIndex() {
+        return this.index;
+    }
+
+    public Location getStart() {
+        return this.start;
+    }
+
+    public Location getEnd() {
+        return this.end;
+    }
+
+    public double getMetallicWaste() {
+        return this.metallicWaste;
+    }
+
+    public double getPlasticGlassWaste() {
+        return this.plasticGlassWaste;
+    }
+
+    public double getPaperWaste() {
+        return this.paperWaste;
+    }
+
+    public double getTotalWaste() {
+        return this.metallicWaste + this.plasticGlassWaste + this.paperWaste;
+    }
+
+    public double getDepartureTime() {
+        return this.departureTime;
+    }
+
+    public double getArrivalTime() {
+        return this.arrivalTime;
+    }
+}
@@ -0,0 +1,7 @@
+package models;
+
+public enum WasteType {
+    PLASTIC_GLASS,
+    PAPER,
+    METALLIC
+}
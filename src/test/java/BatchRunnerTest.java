@@ -0,0 +1,102 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test a scenario line is parsed into a configuration")
+    void testParseScenario_ValidLine_ReturnsConfiguration() {
+        // Act
+        ScenarioConfiguration config = BatchRunner.parseScenario("A 5000; A 12 Alpha, B 10 Beta");
+
+        // Assert
+        assertEquals(Location.A, config.getHistoric().getLocation(), "Historic location should be A.");
+        assertEquals(5000.0, config.getHistoric().getRemainingWaste(), "Initial waste should be 5000.");
+        assertEquals(2, config.getRecycling().size(), "Two recycling centres should be created.");
+        assertInstanceOf(Beta.class, config.getRecycling().get(1), "The second centre should be a Beta.");
+        assertEquals(10, config.getRecycling().get(1).getYearsActive(), "The second centre should be 10 years active.");
+    }
+
+    @Test
+    @DisplayName("Test results are formatted as the scenario completion text")
+    void testFormatResult_ReturnsAppendixFText() {
+        // Arrange
+        ScenarioResult result = new ScenarioResult(new Historic(Location.A, 5000.0), new Alpha(Location.A, 12), 250.0, 5000.0);
+
+        // Act
+        String text = BatchRunner.formatResult(1, result);
+
+        // Assert
+        assertTrue(text.contains("Time to fill recycling centre: 250.00 hours; Time to process the waste after delivery: 5000.00 hours."),
+                "Durations should be reported to 2 decimal places.");
+        assertTrue(text.contains("The total duration is therefore: 5250.00 hours."), "The total duration should be reported.");
+    }
+
+    @Test
+    @DisplayName("Test every scenario in a file is run in input order")
+    void testRun_MultipleScenarios_WritesResultsInOrder(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path input = dir.resolve("scenarios.txt");
+        Files.writeString(input, "# comment\nA 5000; A 12 Alpha, B 10 Beta\n\nB 3000; B 4 Beta\n");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // Act
+        int scenarios = BatchRunner.run(input, new PrintStream(bytes), 2);
+
+        // Assert
+        String output = bytes.toString();
+        assertEquals(2, scenarios, "Comments and blank lines should not count as scenarios.");
+        assertTrue(output.indexOf("Scenario 1:") < output.indexOf("Scenario 2:"), "Results should be written in input order.");
+        assertTrue(output.contains("The total duration is therefore: 5250.00 hours."), "The first scenario should match the worked example.");
+    }
+
+    @Test
+    @DisplayName("Test a repeated scenario is answered from the cache when one is given")
+    void testRun_WithCache_AnswersRepeatedScenarioFromCache(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path input = dir.resolve("scenarios.txt");
+        Files.writeString(input, "A 5000; A 12 Alpha, B 10 Beta\nA 5000; B 10 Beta, A 12 Alpha\n");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ScenarioCache cache = new ScenarioCache(64);
+
+        // Act
+        BatchRunner.run(input, new PrintStream(bytes), 1, cache);
+
+        // Assert
+        String output = bytes.toString();
+        assertEquals(1, cache.getMissCount(), "The first scenario should be worked out.");
+        assertEquals(1, cache.getHitCount(), "The repeated scenario should be answered from the cache.");
+        assertTrue(output.lastIndexOf("The total duration is therefore: 5250.00 hours.") > output.indexOf("Scenario 2:"),
+                "The cached scenario should report the same result as the first.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test a malformed line is reported without stopping the batch")
+    void testRunScenario_MalformedLine_ReportsFailure() {
+        // Act
+        String text = BatchRunner.runScenario(3, "A 5000 A 12 Alpha");
+
+        // Assert
+        assertTrue(text.startsWith("Scenario 3 failed:"), "A malformed scenario should be reported as failed.");
+    }
+
+    @Test
+    @DisplayName("Test an unknown generation is rejected")
+    void testCreateCentre_UnknownGeneration_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.createCentre(Location.A, 5, "Delta"),
+                "An unknown generation should throw IllegalArgumentException.");
+    }
+}
@@ -0,0 +1,166 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentreCatalogueTest {
+
+    // Rewrites the file after letting the action change its bytes, in the byte order the catalogue uses.
+    private static void patch(Path file, Consumer<ByteBuffer> action) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+        action.accept(buffer);
+        Files.write(file, buffer.array());
+    }
+
+    private static List<Recycling> centres() {
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.C, 4)); // 4-hour travel from A (not viable)
+        centres.add(new Gamma(Location.A, 1)); // Only viable with metallic waste
+        centres.add(new Alpha(Location.A, 6));
+        centres.add(new Beta(Location.A, 6));
+        centres.add(new Beta(Location.B, 2));
+        return centres;
+    }
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test a written catalogue reads back every record")
+    void testOpen_WrittenCatalogue_ReadsRecords(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("centres.bin");
+        List<Recycling> centres = centres();
+        CentreCatalogue.write(file, centres);
+
+        // Act
+        try (CentreCatalogue catalogue = CentreCatalogue.open(file)) {
+            // Assert
+            assertEquals(centres.size(), catalogue.size(), "Every centre should be written.");
+            assertEquals(Location.B, catalogue.getLocation(4), "Location should be read back.");
+            assertEquals(2, catalogue.getYearsActive(4), "Years active should be read back.");
+            assertEquals(Generation.GAMMA, catalogue.getGeneration(1), "Generation should be read back.");
+            assertInstanceOf(Beta.class, catalogue.get(3), "Records should be created as the right generation.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test optimal selection over the mapping matches Utils")
+    void testFindOptimalCentre_MatchesUtils(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("centres.bin");
+        List<Recycling> centres = centres();
+        CentreCatalogue.write(file, centres);
+        Historic withoutMetallic = new Historic(Location.A, 1000.0);
+        Historic withMetallic = new Historic(Location.A, 3000.0);
+
+        // Act
+        try (CentreCatalogue catalogue = CentreCatalogue.open(file)) {
+            long withoutMetallicIndex = catalogue.findOptimalCentre(withoutMetallic);
+            long withMetallicIndex = catalogue.findOptimalCentre(withMetallic);
+
+            // Assert
+            assertSame(Utils.findOptimalViableCentre(withoutMetallic, centres), centres.get((int) withoutMetallicIndex),
+                    "The Beta centre at A should win without metallic waste.");
+            assertSame(Utils.findOptimalViableCentre(withMetallic, centres), centres.get((int) withMetallicIndex),
+                    "The Gamma centre should win with metallic waste.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test viable indexes skip centres out of range or Gamma without metallic waste")
+    void testViableIndexes_WithoutMetallic_SkipsNonViable(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("centres.bin");
+        CentreCatalogue.write(file, centres());
+
+        // Act
+        try (CentreCatalogue catalogue = CentreCatalogue.open(file)) {
+            long[] viable = catalogue.viableIndexes(new Historic(Location.A, 1000.0)).toArray();
+
+            // Assert
+            assertArrayEquals(new long[]{2, 3, 4}, viable, "Only the Alpha and Beta centres within 3 hours should be viable.");
+        }
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test an empty catalogue has no optimal centre")
+    void testFindOptimalCentre_EmptyCatalogue_ReturnsMinusOne(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("empty.bin");
+        CentreCatalogue.write(file, List.of());
+
+        // Act
+        try (CentreCatalogue catalogue = CentreCatalogue.open(file)) {
+            // Assert
+            assertEquals(-1, catalogue.findOptimalCentre(new Historic(Location.A, 3000.0)), "An empty catalogue should have no optimal centre.");
+        }
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test a file that is not a catalogue is rejected")
+    void testOpen_NotACatalogue_ThrowsException(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("scenarios.txt");
+        Files.writeString(file, "A 5000; A 12 Alpha, B 10 Beta\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> CentreCatalogue.open(file), "A text file should not open as a catalogue.");
+    }
+
+    @Test
+    @DisplayName("Test a count that overflows to the file length is rejected")
+    void testOpen_ForgedCount_ThrowsException(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("centres.bin");
+        CentreCatalogue.write(file, centres());
+        // 16 + (5 + 2^61) * 8 wraps round to the real length of 56 bytes.
+        patch(file, buffer -> buffer.putLong(8, 5 + (1L << 61)));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> CentreCatalogue.open(file), "A forged count should not open.");
+    }
+
+    @Test
+    @DisplayName("Test a record with an unknown location or generation is rejected")
+    void testOpen_OrdinalOutOfRange_ThrowsException(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path badLocation = dir.resolve("location.bin");
+        Path badGeneration = dir.resolve("generation.bin");
+        CentreCatalogue.write(badLocation, centres());
+        CentreCatalogue.write(badGeneration, centres());
+        // The first record starts after the 16-byte header; its location is at byte 4 and its generation at byte 5.
+        patch(badLocation, buffer -> buffer.put(20, (byte) Location.values().length));
+        patch(badGeneration, buffer -> buffer.put(16 + 8 + 5, (byte) -1));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> CentreCatalogue.open(badLocation),
+                "An unknown location should not open.");
+        assertThrows(IOException.class, () -> CentreCatalogue.open(badGeneration),
+                "An unknown generation should not open.");
+    }
+
+    @Test
+    @DisplayName("Test reading past the last record throws an exception")
+    void testGetYearsActive_IndexOutOfRange_ThrowsException(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("centres.bin");
+        CentreCatalogue.write(file, centres());
+
+        // Act & Assert
+        try (CentreCatalogue catalogue = CentreCatalogue.open(file)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> catalogue.getYearsActive(5), "Index 5 is past the last record.");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentreIndexTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test index picks the nearest viable centre")
+    void testFindOptimalCentre_Nearest_ReturnsNearestCentre() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        index.add(new Beta(Location.B, 2));
+        Recycling nearest = new Alpha(Location.A, 10);
+        index.add(nearest);
+
+        // Act
+        Recycling optimalCentre = index.findOptimalCentre(new Historic(Location.A, 5000.0));
+
+        // Assert
+        assertSame(nearest, optimalCentre, "The centre at the historic site's location should be chosen.");
+    }
+
+    @Test
+    @DisplayName("Test index breaks ties on years active then generation")
+    void testFindOptimalCentre_Ties_FewerYearsThenHigherGeneration() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        index.add(new Gamma(Location.B, 7));
+        Recycling youngest = new Alpha(Location.B, 3);
+        index.add(youngest);
+        Recycling youngestHigherGeneration = new Gamma(Location.B, 3);
+        index.add(youngestHigherGeneration);
+
+        // Act
+        Recycling optimalCentre = index.findOptimalCentre(new Historic(Location.B, 5000.0));
+
+        // Assert
+        assertSame(youngestHigherGeneration, optimalCentre, "The youngest Gamma centre should win the tie-break.");
+    }
+
+    @Test
+    @DisplayName("Test index excludes Gamma centres without metallic waste")
+    void testFindOptimalCentre_NoMetallicWaste_ExcludesGamma() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        index.add(new Gamma(Location.A, 1));
+        Recycling beta = new Beta(Location.B, 8);
+        index.add(beta);
+
+        // Act
+        Recycling optimalCentre = index.findOptimalCentre(Location.A, false);
+
+        // Assert
+        assertSame(beta, optimalCentre, "The Beta centre should be chosen when Gamma is not viable.");
+    }
+
+    @Test
+    @DisplayName("Test index agrees with a full scan of the same catalogue")
+    void testFindOptimalCentre_MatchesFullScan() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.C, 4));
+        centres.add(new Beta(Location.B, 4));
+        centres.add(new Alpha(Location.B, 4));
+        centres.add(new Beta(Location.B, 4));
+        centres.add(new Gamma(Location.A, 1));
+        Historic historic = new Historic(Location.B, 1000.0); // No metallic waste
+
+        // Act
+        Recycling optimalCentre = new CentreIndex(centres).findOptimalCentre(historic);
+
+        // Assert
+        assertSame(Utils.findOptimalViableCentre(historic, centres), optimalCentre, "The index should match a full scan.");
+        assertSame(centres.get(1), optimalCentre, "The first of two identical Beta centres should be chosen.");
+    }
+
+    @Test
+    @DisplayName("Test removing the best centre falls back to the next best")
+    void testRemove_BestCentre_NextBestChosen() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        Recycling older = new Beta(Location.A, 9);
+        Recycling younger = new Beta(Location.A, 4);
+        index.add(older);
+        index.add(younger);
+
+        // Act
+        boolean removed = index.remove(younger);
+        Recycling optimalCentre = index.findOptimalCentre(Location.A, true);
+
+        // Assert
+        assertTrue(removed, "The indexed centre should be removed.");
+        assertSame(older, optimalCentre, "The older centre should be chosen once the younger one is removed.");
+        assertEquals(1, index.size(), "One centre should remain.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test index returns null when no centre is viable")
+    void testFindOptimalCentre_NoViableCentre_ReturnsNull() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        index.add(new Alpha(Location.C, 2)); // 4-hour travel from A
+
+        // Act
+        Recycling optimalCentre = index.findOptimalCentre(new Historic(Location.A, 5000.0));
+
+        // Assert
+        assertNull(optimalCentre, "No centre should be chosen when none are viable.");
+        assertEquals(1, index.size(), "The index should still hold the centre.");
+    }
+}
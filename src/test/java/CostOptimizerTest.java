@@ -0,0 +1,96 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CostOptimizerTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test a farther Gamma centre beats a nearby Alpha centre on total duration")
+    void testFindFastestViableCentre_FartherGamma_BeatsNearbyAlpha() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0); // Contains metallic waste
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.A, 1)); // 250 + 5000 hours
+        centres.add(new Gamma(Location.B, 9)); // 500 + 2333.33 hours
+
+        // Act
+        Recycling fastest = CostOptimizer.findFastestViableCentre(historic, centres);
+
+        // Assert
+        assertSame(centres.get(0), Utils.findOptimalViableCentre(historic, centres), "The rule chain should pick the nearby Alpha centre.");
+        assertSame(centres.get(1), fastest, "The Gamma centre should take thousands of hours less.");
+    }
+
+    @Test
+    @DisplayName("Test the fastest centre matches the best of a full ranking")
+    void testFindFastestViableCentre_MatchesRanking() {
+        // Arrange
+        Historic historic = new Historic(Location.C, 3000.0);
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Beta(Location.B, 3));
+        centres.add(new Alpha(Location.C, 2));
+        centres.add(new Gamma(Location.C, 20));
+        centres.add(new Gamma(Location.C, 7));
+        centres.add(new Gamma(Location.B, 1));
+
+        // Act
+        Recycling fastest = CostOptimizer.findFastestViableCentre(historic, centres);
+
+        // Assert
+        assertSame(Utils.rankViableCentres(historic, centres, 1).getBest().getCentre(), fastest,
+                "The optimizer should agree with ranking every centre.");
+        assertSame(centres.get(3), fastest, "The youngest Gamma centre at C should be fastest.");
+    }
+
+    @Test
+    @DisplayName("Test equal totals fall back to the rule chain")
+    void testFindFastestViableCentre_EqualTotals_LeastYearsActive() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 1000.0); // No metallic waste
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Beta(Location.B, 8));
+        centres.add(new Beta(Location.B, 3));
+        centres.add(new Beta(Location.B, 3));
+
+        // Act
+        Recycling fastest = CostOptimizer.findFastestViableCentre(historic, centres);
+
+        // Assert
+        assertSame(centres.get(1), fastest, "The first of the youngest identical centres should be chosen.");
+    }
+
+    @Test
+    @DisplayName("Test the index gives the same fastest centre")
+    void testFindFastestCentre_Index_MatchesOptimizer() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 1), new Beta(Location.A, 5), new Gamma(Location.B, 9));
+
+        // Act
+        Recycling fastest = new CentreIndex(centres).findFastestCentre(historic);
+
+        // Assert
+        assertSame(CostOptimizer.findFastestViableCentre(historic, centres), fastest, "The index should match the optimizer.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test no viable centres returns null")
+    void testFindFastestViableCentre_NoViableCentres_ReturnsNull() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0); // No metallic waste
+        List<Recycling> centres = List.of(new Alpha(Location.C, 1), new Gamma(Location.A, 1));
+
+        // Act
+        Recycling fastest = CostOptimizer.findFastestViableCentre(historic, centres);
+
+        // Assert
+        assertNull(fastest, "No centre should be chosen when none is viable.");
+    }
+}
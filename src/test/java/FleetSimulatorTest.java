@@ -0,0 +1,107 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetSimulatorTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test one truck without return trips matches the single-truck travel duration")
+    void testSimulate_OneTruckOneWay_MatchesTravelDuration() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        Recycling centre = new Beta(Location.B, 3);
+        FleetSimulator simulator = new FleetSimulator(1, 20.0, 0.0, false);
+
+        // Act
+        FleetResult result = simulator.simulate(historic, centre);
+
+        // Assert
+        assertEquals(Utils.calculateTravelDuration(new Historic(Location.A, 5000.0), centre), result.getMakespan(),
+                "One truck with no loading time should match calculateTravelDuration.");
+        assertEquals(250, result.getLoads(), "5000 m3 should need 250 loads.");
+        assertEquals(500, result.getEvents(), "Each load should depart and arrive once.");
+    }
+
+    @Test
+    @DisplayName("Test one shuttling truck drives back to the site between loads")
+    void testSimulate_OneTruckShuttling_AddsReturnTrips() {
+        // Arrange
+        FleetSimulator simulator = new FleetSimulator(1, 20.0, 0.0);
+
+        // Act
+        FleetResult result = simulator.simulate(5000.0, 2.0);
+
+        // Assert
+        assertEquals(998.0, result.getMakespan(), "250 deliveries and 249 returns of 2 hours should take 998 hours.");
+        assertEquals(749, result.getEvents(), "Every load but the last should also return.");
+    }
+
+    @Test
+    @DisplayName("Test trucks share the loads between them")
+    void testSimulate_FourTrucks_SharesLoads() {
+        // Arrange
+        FleetSimulator simulator = new FleetSimulator(4, 20.0, 0.0);
+        FleetSimulator oneWay = new FleetSimulator(4, 20.0, 0.0, false);
+
+        // Act
+        FleetResult result = simulator.simulate(5000.0, 2.0);
+        FleetResult oneWayResult = oneWay.simulate(5000.0, 2.0);
+
+        // Assert
+        assertEquals(250.0, result.getMakespan(), "250 loads over 4 trucks should take 63 deliveries and 62 returns of 2 hours.");
+        assertEquals(126.0, oneWayResult.getMakespan(), "Without returns, 250 loads over 4 trucks should take 63 trips of 2 hours.");
+    }
+
+    @Test
+    @DisplayName("Test the loading bay limits a large fleet")
+    void testSimulate_LoadingBay_LimitsLargeFleet() {
+        // Arrange
+        FleetSimulator simulator = new FleetSimulator(2, 20.0, 0.5);
+        FleetSimulator oneWay = new FleetSimulator(2, 20.0, 0.5, false);
+
+        // Act
+        FleetResult result = simulator.simulate(100.0, 2.0);
+        FleetResult oneWayResult = oneWay.simulate(100.0, 2.0);
+
+        // Assert
+        assertEquals(11.5, result.getMakespan(), "5 loads with 2 shuttling trucks and a 0.5 hour loading bay should take 11.5 hours.");
+        assertEquals(7.5, oneWayResult.getMakespan(), "Without returns, the same fleet should take 7.5 hours.");
+    }
+
+    @Test
+    @DisplayName("Test sweeping fleet sizes never gets slower with more trucks")
+    void testSweepMakespans_MoreTrucks_NeverSlower() {
+        // Act
+        double[] makespans = FleetSimulator.sweepMakespans(5000.0, 3.0, 20.0, 0.25, 50);
+
+        // Assert
+        assertEquals(50, makespans.length, "There should be a makespan for each fleet size.");
+        for (int i = 1; i < makespans.length; i++) {
+            assertTrue(makespans[i] <= makespans[i - 1], "Adding a truck should never increase the makespan.");
+        }
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test no waste takes no time")
+    void testSimulate_NoWaste_ZeroMakespan() {
+        // Act
+        FleetResult result = new FleetSimulator(3, 20.0, 1.0).simulate(0.0, 2.0);
+
+        // Assert
+        assertEquals(0.0, result.getMakespan(), "No waste should take no time.");
+        assertEquals(0, result.getEvents(), "No waste should produce no events.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test a fleet without trucks is rejected")
+    void testFleetSimulator_NoTrucks_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FleetSimulator(0, 20.0, 0.0),
+                "A fleet with no trucks should throw IllegalArgumentException.");
+    }
+}
@@ -0,0 +1,144 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputTokenizerTest {
+
+    private static InputTokenizer tokenizer(String input) {
+        return new InputTokenizer(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test tokens are split on any whitespace")
+    void testNext_MixedWhitespace_SplitsTokens() {
+        // Arrange
+        InputTokenizer input = tokenizer("  1\tA\r\n5000.5\n\n y ");
+
+        // Act & Assert
+        assertEquals(1, input.nextInt(), "First token should be read as an int.");
+        assertEquals("A", input.next(), "Tabs should separate tokens.");
+        assertEquals(5000.5, input.nextDouble(), "Windows line endings should separate tokens.");
+        assertEquals("y", input.next(), "Blank lines and trailing spaces should be skipped.");
+    }
+
+    @Test
+    @DisplayName("Test tokens longer than the buffer are read whole")
+    void testNext_TokenSpanningBuffers_ReadWhole() {
+        // Arrange
+        String longToken = "x".repeat(200_000);
+        InputTokenizer input = tokenizer("A " + longToken + " B");
+
+        // Act & Assert
+        assertEquals("A", input.next(), "Token before should be read.");
+        assertEquals(longToken, input.next(), "A token spanning several buffers should be read whole.");
+        assertEquals("B", input.next(), "Token after should be read.");
+    }
+
+    @Test
+    @DisplayName("Test a scripted session replays every prompt through Main")
+    void testMain_Script_ReplaysSession(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path script = dir.resolve("session.txt");
+        StringBuilder answers = new StringBuilder("1\n1\nA\n5000\n2\n");
+        for (int i = 1; i < 1_000; i++) {
+            answers.append("C 10 Alpha y\n");
+        }
+        answers.append("A 1 Beta n\n");
+        answers.append("3\n3\n");
+        Files.writeString(script, answers);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+
+        // Act
+        try {
+            System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+            Main.main(new String[]{"--script", script.toString()});
+        } finally {
+            System.setOut(console);
+        }
+
+        // Assert
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("1000 recycling centres created"), "Every scripted centre should be read.");
+        assertTrue(text.contains("The total duration is therefore:"), "The scenario should run.");
+        assertTrue(text.contains("Exiting..."), "The script should exit cleanly.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test a final token without trailing whitespace is read")
+    void testNext_NoTrailingNewline_ReadsLastToken() {
+        // Arrange
+        InputTokenizer input = tokenizer("n");
+
+        // Act
+        String token = input.next();
+
+        // Assert
+        assertEquals("n", token, "The last token should not need a newline.");
+    }
+
+    @Test
+    @DisplayName("Test non-ASCII tokens are decoded as UTF-8")
+    void testNext_Utf8Token_Decoded() {
+        // Arrange
+        InputTokenizer input = tokenizer("Gämma 1");
+
+        // Act
+        String token = input.next();
+
+        // Assert
+        assertEquals("Gämma", token, "Multi-byte characters should be kept in one token.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test reading past the end throws NoSuchElementException")
+    void testNext_EndOfInput_ThrowsException() {
+        // Arrange
+        InputTokenizer input = tokenizer(" \n ");
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, input::next, "Whitespace-only input has no tokens.");
+        assertThrows(NoSuchElementException.class, input::nextInt, "nextInt past the end should throw like Scanner.");
+    }
+
+    @Test
+    @DisplayName("Test a non-number leaves the token to be read again")
+    void testNextInt_NotANumber_ThrowsAndKeepsToken() {
+        // Arrange
+        InputTokenizer input = tokenizer("abc 7");
+
+        // Act & Assert
+        assertThrows(InputMismatchException.class, input::nextInt, "A word is not an int.");
+        assertEquals("abc", input.next(), "The mismatched token should not be consumed.");
+        assertEquals(7, input.nextInt(), "Reading should carry on after the mismatch.");
+    }
+
+    @Test
+    @DisplayName("Test doubles reject type suffixes and hex like Scanner")
+    void testNextDouble_SuffixOrHex_ThrowsException() {
+        // Arrange
+        InputTokenizer input = tokenizer("1d 0x10 .5");
+
+        // Act & Assert
+        assertThrows(InputMismatchException.class, input::nextDouble, "A type suffix should not be accepted.");
+        assertEquals("1d", input.next(), "The mismatched token should not be consumed.");
+        assertThrows(InputMismatchException.class, input::nextDouble, "Hex should not be accepted.");
+        assertEquals("0x10", input.next(), "The mismatched token should not be consumed.");
+        assertEquals(0.5, input.nextDouble(), "A leading decimal point should be accepted.");
+    }
+}
@@ -0,0 +1,113 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test quantiles of uniform latencies are within 1/16 of the true value")
+    void testGetValueAtQuantile_UniformLatencies_WithinRelativeError() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        // Assert
+        assertEquals(100_000, histogram.getCount(), "Every latency should be counted.");
+        assertEquals(5_000_050_000L, histogram.getSum(), "Sum should be exact.");
+        assertEquals(50_000, histogram.getValueAtQuantile(0.5), 50_000 / 16.0, "P50 should be within 1/16.");
+        assertEquals(99_000, histogram.getValueAtQuantile(0.99), 99_000 / 16.0, "P99 should be within 1/16.");
+        assertEquals(99_900, histogram.getValueAtQuantile(0.999), 99_900 / 16.0, "P999 should be within 1/16.");
+        assertTrue(histogram.getValueAtQuantile(0.99) >= 99_000, "Quantiles should never be understated.");
+    }
+
+    @Test
+    @DisplayName("Test recording from many threads loses no latencies")
+    void testRecord_ConcurrentThreads_CountsEveryLatency() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        IntStream.range(0, 1_000_000).parallel().forEach(i -> histogram.record(1_000));
+
+        // Assert
+        assertEquals(1_000_000, histogram.getCount(), "Every latency should be counted.");
+        assertEquals(1_000_000_000L, histogram.getSum(), "Every latency should be summed.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test small latencies are reported exactly")
+    void testGetValueAtQuantile_BelowSixteenNanos_Exact() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        histogram.record(3);
+        histogram.record(15);
+
+        // Assert
+        assertEquals(3, histogram.getValueAtQuantile(0.5), "Latencies below 16ns should have their own bucket.");
+        assertEquals(15, histogram.getValueAtQuantile(1.0), "Latencies below 16ns should have their own bucket.");
+    }
+
+    @Test
+    @DisplayName("Test an empty histogram reports zero")
+    void testGetValueAtQuantile_Empty_ReturnsZero() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        long p99 = histogram.getValueAtQuantile(0.99);
+
+        // Assert
+        assertEquals(0, p99, "An empty histogram should report zero.");
+        assertEquals(0, histogram.getCount(), "An empty histogram should have no count.");
+    }
+
+    @Test
+    @DisplayName("Test the largest latency fits the last bucket")
+    void testRecord_LongMaxValue_ReportedAsMaximum() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        histogram.record(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtQuantile(1.0), "The largest latency should still be recorded.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test negative latencies are recorded as zero")
+    void testRecord_NegativeLatency_RecordedAsZero() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        histogram.record(-5);
+
+        // Assert
+        assertEquals(0, histogram.getValueAtQuantile(1.0), "A negative latency should be treated as zero.");
+        assertEquals(0, histogram.getSum(), "A negative latency should not reduce the sum.");
+    }
+
+    @Test
+    @DisplayName("Test a quantile outside 0 to 1 throws")
+    void testGetValueAtQuantile_OutOfRange_ThrowsException() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtQuantile(1.5), "Quantile above 1 should throw.");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtQuantile(Double.NaN), "NaN quantile should throw.");
+    }
+}
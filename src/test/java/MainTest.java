@@ -0,0 +1,140 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainTest {
+
+    // Runs Main with the given arguments and returns what it printed.
+    private static String runMain(String... args) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+        try {
+            System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+            Main.main(args);
+        } finally {
+            System.setOut(console);
+        }
+
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test known options with values run the batch")
+    void testMain_BatchWithCache_RunsBatch(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path input = dir.resolve("scenarios.txt");
+        Files.writeString(input, "A 5000; A 12 Alpha, B 10 Beta\n");
+
+        // Act
+        String text = runMain("--batch", input.toString(), "--cache", "64");
+
+        // Assert
+        assertTrue(text.contains("Scenario 1:"), "The batch should run.");
+        assertFalse(text.contains("Usage:"), "Valid options should not print the usage.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test an unknown option is rejected with the usage")
+    void testMain_UnknownOption_PrintsUsage() throws IOException {
+        // Act
+        String text = runMain("--bacth", "scenarios.txt");
+
+        // Assert
+        assertTrue(text.contains("Unknown option: --bacth"), "The unknown option should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+        assertFalse(text.contains("Landfill Labs"), "Nothing should run after a bad option.");
+    }
+
+    @Test
+    @DisplayName("Test an option without its value is rejected with the usage")
+    void testMain_MissingValue_PrintsUsage() throws IOException {
+        // Act
+        String text = runMain("--metrics-port");
+
+        // Assert
+        assertTrue(text.contains("Missing value for --metrics-port"), "The option missing its value should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+    }
+
+    @Test
+    @DisplayName("Test an option followed by another option is missing its value")
+    void testMain_ValueIsAnOption_PrintsUsage(@TempDir Path dir) throws IOException {
+        // Act
+        String text = runMain("--batch", "--script", dir.resolve("session.txt").toString());
+
+        // Assert
+        assertTrue(text.contains("Missing value for --batch"), "The option missing its value should be named.");
+    }
+
+    @Test
+    @DisplayName("Test a value that is not a number is rejected with the usage")
+    void testMain_InvalidNumber_PrintsUsage() throws IOException {
+        // Act
+        String text = runMain("--cache", "lots");
+
+        // Assert
+        assertTrue(text.contains("Invalid value for --cache: lots"), "The invalid value should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+    }
+
+    @Test
+    @DisplayName("Test a metrics port out of range is rejected with the usage")
+    void testMain_PortOutOfRange_PrintsUsage() throws IOException {
+        // Act
+        String text = runMain("--metrics-port", "70000");
+
+        // Assert
+        assertTrue(text.contains("Invalid value for --metrics-port: 70000"), "The invalid port should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+    }
+
+    @Test
+    @DisplayName("Test a metrics port already in use is reported in one line")
+    void testMain_PortInUse_ReportsError() throws IOException {
+        // Arrange
+        try (ServerSocket taken = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // Act
+            String text = runMain("--metrics-port", Integer.toString(taken.getLocalPort()));
+
+            // Assert
+            assertTrue(text.startsWith("Could not serve metrics on port " + taken.getLocalPort()),
+                    "The bind failure should be reported.");
+            assertFalse(text.contains("Landfill Labs"), "Nothing should run when metrics cannot be served.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test a cache without a batch is rejected with the usage")
+    void testMain_CacheWithoutBatch_PrintsUsage() throws IOException {
+        // Act
+        String text = runMain("--cache", "64");
+
+        // Assert
+        assertTrue(text.contains("--cache can only be used with --batch"), "The conflict should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+    }
+
+    @Test
+    @DisplayName("Test a batch and a script together are rejected with the usage")
+    void testMain_BatchAndScript_PrintsUsage(@TempDir Path dir) throws IOException {
+        // Act
+        String text = runMain("--batch", dir.resolve("a.txt").toString(), "--script", dir.resolve("b.txt").toString());
+
+        // Assert
+        assertTrue(text.contains("--batch and --script cannot be used together"), "The conflict should be named.");
+        assertTrue(text.contains("Usage:"), "The usage should be printed.");
+    }
+}
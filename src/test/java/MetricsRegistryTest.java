@@ -0,0 +1,188 @@
+import com.sun.net.httpserver.HttpServer;
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private static String export(MetricsRegistry registry) throws IOException {
+        StringWriter out = new StringWriter();
+        registry.writePrometheus(out);
+        return out.toString();
+    }
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test counters are exported with their labels")
+    void testWritePrometheus_Counter_ExportsLabelledValue() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        LongAdder counter = registry.counter("scenarios_total", "Scenarios run.", "location", "A");
+
+        // Act
+        counter.add(3);
+        String text = export(registry);
+
+        // Assert
+        assertTrue(text.contains("# HELP scenarios_total Scenarios run.\n"), "Help text should be exported.");
+        assertTrue(text.contains("# TYPE scenarios_total counter\n"), "Counters should be typed as counters.");
+        assertTrue(text.contains("scenarios_total{location=\"A\"} 3\n"), "Counter value should be exported.");
+    }
+
+    @Test
+    @DisplayName("Test histograms are exported as p50/p99/p999 summaries in seconds")
+    void testWritePrometheus_Histogram_ExportsQuantilesInSeconds() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        LatencyHistogram histogram = registry.histogram("stage_seconds", "Stage time.", "stage", "selection");
+
+        // Act
+        histogram.record(2_000_000_000L);
+        String text = export(registry);
+
+        // Assert
+        assertTrue(text.contains("# TYPE stage_seconds summary\n"), "Histograms should be typed as summaries.");
+        assertTrue(text.contains("stage_seconds{stage=\"selection\",quantile=\"0.5\"} "), "P50 should be exported.");
+        assertTrue(text.contains("stage_seconds{stage=\"selection\",quantile=\"0.99\"} "), "P99 should be exported.");
+        assertTrue(text.contains("stage_seconds{stage=\"selection\",quantile=\"0.999\"} "), "P999 should be exported.");
+        assertTrue(text.contains("stage_seconds_sum{stage=\"selection\"} 2.0\n"), "Sum should be exported in seconds.");
+        assertTrue(text.contains("stage_seconds_count{stage=\"selection\"} 1\n"), "Count should be exported.");
+    }
+
+    @Test
+    @DisplayName("Test looking a metric up twice returns the same metric")
+    void testCounter_SameNameAndLabels_ReturnsSameCounter() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+
+        // Act
+        LongAdder first = registry.counter("scenarios_total", "Scenarios run.", "location", "A");
+        LongAdder second = registry.counter("scenarios_total", "Scenarios run.", "location", "A");
+        LongAdder other = registry.counter("scenarios_total", "Scenarios run.", "location", "B");
+
+        // Assert
+        assertSame(first, second, "The same labels should share a counter.");
+        assertNotSame(first, other, "Different labels should have their own counter.");
+    }
+
+    @Test
+    @DisplayName("Test metrics can be written to a file")
+    void testWritePrometheus_File_WritesExport(@TempDir Path dir) throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("scenarios_total", "Scenarios run.").increment();
+        Path file = dir.resolve("metrics.prom");
+
+        // Act
+        registry.writePrometheus(file);
+
+        // Assert
+        assertEquals(export(registry), Files.readString(file), "The file should hold the export.");
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count(), "No temporary file should be left behind.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test metrics are served from a local endpoint")
+    void testServe_LocalEndpoint_ServesExport() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("scenarios_total", "Scenarios run.").add(7);
+        HttpServer server = registry.serve(0);
+
+        try {
+            // Act
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            // Assert
+            assertEquals(200, connection.getResponseCode(), "The endpoint should respond.");
+            assertTrue(connection.getContentType().startsWith("text/plain"), "The export should be plain text.");
+            assertTrue(body.contains("scenarios_total 7\n"), "The endpoint should serve the current values.");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test running a scenario records its stages by location and generation")
+    void testScenarioMetrics_RunScenario_RecordsStages() throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.C, 1000.0);
+        List<Recycling> centres = List.of(new Gamma(Location.C, 2), new Beta(Location.C, 2));
+        String labels = "location=\"C\",generation=\"BETA\"";
+        LongAdder scenarios = ScenarioMetrics.REGISTRY.counter("workerservice_scenarios_total", "Scenarios run to completion.",
+                "location", "C", "generation", "BETA");
+        long before = scenarios.sum();
+
+        // Act
+        ScenarioRunner.run(historic, centres);
+        String text = export(ScenarioMetrics.REGISTRY);
+
+        // Assert
+        assertEquals(before + 1, scenarios.sum(), "The scenario should be counted against its location and generation.");
+        assertTrue(text.contains("workerservice_stage_duration_seconds{stage=\"selection\"," + labels + ",quantile=\"0.99\"}"),
+                "Selection latency should be exported.");
+        assertTrue(text.contains("workerservice_stage_duration_seconds_count{stage=\"travel_duration\"," + labels + "}"),
+                "Travel duration latency should be exported.");
+        assertTrue(text.contains("workerservice_scenario_duration_seconds_count{" + labels + "}"),
+                "Whole scenario latency should be exported.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test labels must be name/value pairs")
+    void testCounter_OddLabels_ThrowsException() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("scenarios_total", "Scenarios run.", "location"),
+                "A label without a value should throw.");
+    }
+
+    @Test
+    @DisplayName("Test a name cannot be both a counter and a histogram")
+    void testHistogram_NameRegisteredAsCounter_ThrowsException() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("scenarios_total", "Scenarios run.");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("scenarios_total", "Scenarios run."),
+                "Reusing a counter name for a histogram should throw.");
+    }
+
+    @Test
+    @DisplayName("Test label values are escaped")
+    void testWritePrometheus_QuotedLabelValue_Escaped() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+
+        // Act
+        registry.counter("scenarios_total", "Scenarios run.", "site", "say \"hi\"").increment();
+        String text = export(registry);
+
+        // Assert
+        assertTrue(text.contains("scenarios_total{site=\"say \\\"hi\\\"\"} 1\n"), "Quotes in label values should be escaped.");
+    }
+}
@@ -0,0 +1,139 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTest {
+
+    private static final List<Recycling> CENTRES = List.of(
+            new Alpha(Location.A, 12), new Beta(Location.B, 10), new Gamma(Location.B, 4), new Alpha(Location.C, 3));
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test fixed inputs give the same durations as a normal scenario")
+    void testSimulate_FixedInputs_MatchesScenarioDurations() {
+        // Arrange
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                Distribution.fixed(5000.0), Distribution.fixed(0.5), Distribution.fixed(0.2), 1L, 20_000, 80_000, 0.001);
+
+        // Act
+        MonteCarloResult result = simulator.simulate(Location.A, CENTRES);
+
+        // Assert
+        DurationQuantiles alpha = result.getCentreQuantiles().get(0);
+        DurationQuantiles gamma = result.getCentreQuantiles().get(2);
+        assertTrue(result.isConverged(), "Fixed inputs should converge straight away.");
+        assertEquals(5250.0, alpha.getP50(), 1e-9, "P50 for the Alpha centre should match the scenario duration.");
+        assertEquals(5250.0, alpha.getP99(), 1e-9, "P99 for the Alpha centre should match the scenario duration.");
+        assertEquals(2833.33, gamma.getP90(), 0.01, "P90 for the Gamma centre should match the scenario duration.");
+    }
+
+    @Test
+    @DisplayName("Test the same seed gives the same quantiles")
+    void testSimulate_SameSeed_Reproducible() {
+        // Arrange
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                Distribution.triangular(800.0, 3000.0, 9000.0), Distribution.uniform(0.4, 0.6),
+                Distribution.normal(0.2, 0.05), 42L, 20_000, 80_000, 0.001);
+
+        // Act
+        MonteCarloResult first = simulator.simulate(Location.A, CENTRES);
+        MonteCarloResult second = simulator.simulate(Location.A, CENTRES);
+
+        // Assert
+        for (int i = 0; i < CENTRES.size(); i++) {
+            DurationQuantiles a = first.getCentreQuantiles().get(i);
+            DurationQuantiles b = second.getCentreQuantiles().get(i);
+            assertEquals(a.getViableTrials(), b.getViableTrials(), "Viable trial counts should match.");
+            assertEquals(a.getP99(), b.getP99(), "P99 should be identical for the same seed.");
+        }
+        assertEquals(first.getTrials(), second.getTrials(), "Both runs should stop after the same number of trials.");
+    }
+
+    @Test
+    @DisplayName("Test percentiles are ordered and Gamma is skipped without metallic waste")
+    void testSimulate_UncertainInputs_OrderedPercentiles() {
+        // Arrange
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                Distribution.uniform(500.0, 3000.0), Distribution.fixed(0.5), Distribution.fixed(0.2),
+                7L, 20_000, 40_000, 0.001);
+
+        // Act
+        MonteCarloResult result = simulator.simulate(Location.A, CENTRES);
+
+        // Assert
+        DurationQuantiles beta = result.getCentreQuantiles().get(1);
+        DurationQuantiles gamma = result.getCentreQuantiles().get(2);
+        assertTrue(beta.getP50() <= beta.getP90() && beta.getP90() <= beta.getP99(), "Percentiles should not decrease.");
+        assertEquals(result.getTrials(), beta.getViableTrials(), "The Beta centre should be viable in every trial.");
+        assertTrue(gamma.getViableTrials() < result.getTrials(), "The Gamma centre should not be viable when there is no metallic waste.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test an out of range centre is never viable")
+    void testSimulate_OutOfRangeCentre_NeverViable() {
+        // Arrange
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                Distribution.fixed(5000.0), Distribution.fixed(0.5), Distribution.fixed(0.2), 1L, 20_000, 40_000, 0.001);
+
+        // Act
+        DurationQuantiles far = simulator.simulate(Location.A, CENTRES).getCentreQuantiles().get(3);
+
+        // Assert
+        assertEquals(0, far.getViableTrials(), "A centre 4 hours away should never be viable.");
+        assertTrue(Double.isNaN(far.getP50()), "Quantiles should be NaN for a centre that is never viable.");
+    }
+
+    @Test
+    @DisplayName("Test the trial limit stops a run that has not converged")
+    void testSimulate_TrialLimit_NotConverged() {
+        // Arrange
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                Distribution.uniform(2000.0, 9000.0), Distribution.uniform(0.3, 0.7), Distribution.uniform(0.0, 0.3),
+                3L, 10_000, 10_000, 0.0);
+
+        // Act
+        MonteCarloResult result = simulator.simulate(Location.B, CENTRES);
+
+        // Assert
+        assertEquals(10_000, result.getTrials(), "The run should stop at the trial limit.");
+        assertFalse(result.isConverged(), "A single round cannot show convergence.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test a triangular distribution with the mode out of range is rejected")
+    void testTriangular_ModeOutOfRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Distribution.triangular(1.0, 5.0, 3.0),
+                "The mode must lie between the minimum and maximum.");
+    }
+
+    @Test
+    @DisplayName("Test triangular samples stay within range")
+    void testTriangular_Samples_WithinRange() {
+        // Arrange
+        Distribution distribution = Distribution.triangular(1.0, 2.0, 5.0);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            double sample = distribution.sample(random);
+            assertTrue(sample >= 1.0 && sample <= 5.0, "Samples should lie between the minimum and maximum.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test the trial limit cannot be below the minimum")
+    void testConstructor_MaxBelowMin_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(
+                Distribution.fixed(1.0), Distribution.fixed(0.5), Distribution.fixed(0.2), 1L, 100, 10, 0.001),
+                "Maximum trials below the minimum should be rejected.");
+    }
+}
@@ -0,0 +1,201 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineEventsTest {
+
+    private static final String[] EVENT_NAMES = {
+            "workerService.FindViableCentres",
+            "workerService.FindOptimalCentre",
+            "workerService.CalculateTravelDuration",
+            "workerService.CalculateProcessDuration",
+            "workerService.RunScenario"
+    };
+
+    private static List<Recycling> centres() {
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.C, 4)); // 4-hour travel from A (not viable)
+        centres.add(new Beta(Location.A, 6));
+        centres.add(new Beta(Location.B, 2));
+        return centres;
+    }
+
+    // Records the pipeline events emitted while the action runs.
+    private static List<RecordedEvent> record(Path dir, Runnable action) throws IOException {
+        Path file = dir.resolve("pipeline.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_NAMES) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test running a scenario records an event for every stage")
+    void testRun_RecordingEnabled_RecordsEveryStage(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events = record(dir, () -> ScenarioRunner.run(historic, centres));
+
+        // Assert
+        RecordedEvent selection = named(events, "workerService.FindOptimalCentre").get(0);
+        assertEquals(3, selection.getInt("candidateCount"), "Selection should record every candidate.");
+        assertEquals(2, selection.getInt("viableCount"), "Selection should record the viable candidates.");
+        assertTrue(selection.getBoolean("viableOnly"), "The scenario should only select viable centres.");
+        assertEquals("A", selection.getString("centreLocation"), "Selection should record the optimal centre.");
+
+        RecordedEvent travel = named(events, "workerService.CalculateTravelDuration").get(0);
+        assertEquals(50L, travel.getLong("trips"), "1000m3 should take 50 trips.");
+        assertEquals(50.0, travel.getDouble("travelDuration"), 1e-9, "Travel duration should be recorded.");
+
+        RecordedEvent process = named(events, "workerService.CalculateProcessDuration").get(0);
+        assertEquals("BETA", process.getString("centreGeneration"), "Process event should record the generation.");
+
+        RecordedEvent scenario = named(events, "workerService.RunScenario").get(0);
+        assertEquals("RULE_CHAIN", scenario.getString("selectionMode"), "Scenario should record the selection mode.");
+        assertEquals(travel.getDouble("travelDuration"), scenario.getDouble("travelDuration"), 1e-9,
+                "Scenario should record the same travel duration.");
+        assertEquals(process.getDouble("processDuration"), scenario.getDouble("processDuration"), 1e-9,
+                "Scenario should record the same process duration.");
+    }
+
+    @Test
+    @DisplayName("Test running a scenario records one event per stage")
+    void testRun_RecordingEnabled_RecordsOneEventPerStage(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events = record(dir,
+                () -> ScenarioRunner.run(historic, centres, SelectionMode.MINIMUM_DURATION));
+
+        // Assert
+        for (String name : EVENT_NAMES) {
+            // The pipeline filters during selection, so it never calls findViableCentres.
+            int expected = name.equals("workerService.FindViableCentres") ? 0 : 1;
+            assertEquals(expected, named(events, name).size(),
+                    name + " should be recorded once, not once per candidate.");
+        }
+        assertEquals(-1, named(events, "workerService.FindOptimalCentre").get(0).getInt("viableCount"),
+                "The minimum duration search does not count the viable candidates.");
+    }
+
+    @Test
+    @DisplayName("Test finding viable centres records candidate and viable counts")
+    void testFindViableCentres_RecordingEnabled_RecordsCounts(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events = record(dir, () -> Utils.findViableCentres(historic, centres));
+
+        // Assert
+        List<RecordedEvent> viability = named(events, "workerService.FindViableCentres");
+        assertEquals(1, viability.size(), "One event should be recorded per call.");
+        assertEquals("A", viability.get(0).getString("historicLocation"), "Event should record the historic location.");
+        assertEquals(3, viability.get(0).getInt("candidateCount"), "Event should record every candidate.");
+        assertEquals(2, viability.get(0).getInt("viableCount"), "Event should record the viable centres.");
+    }
+
+    @Test
+    @DisplayName("Test finding the optimal centre directly records a selection event")
+    void testFindOptimalCentre_RecordingEnabled_RecordsSelection(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events = record(dir, () -> Utils.findOptimalCentre(historic, centres));
+
+        // Assert
+        List<RecordedEvent> selection = named(events, "workerService.FindOptimalCentre");
+        assertEquals(1, selection.size(), "One event should be recorded per call.");
+        assertFalse(selection.get(0).getBoolean("viableOnly"), "findOptimalCentre does not check viability.");
+        assertEquals(3, selection.get(0).getInt("viableCount"), "Unchecked candidates are all taken to be viable.");
+    }
+
+    @Test
+    @DisplayName("Test ranking candidates records no per-candidate events")
+    void testRankViableCentres_RecordingEnabled_RecordsNothing(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events = record(dir, () -> Utils.rankViableCentres(historic, centres, 2));
+
+        // Assert
+        assertTrue(events.isEmpty(), "Ranking is not a pipeline stage, so it should not record any events.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test too little waste to travel records no travel event")
+    void testCalculateTravelDuration_BelowCapacity_RecordsNothing(@TempDir Path dir) throws IOException {
+        // Arrange
+        Historic historic = new Historic(Location.A, 10.0);
+        Recycling centre = new Beta(Location.A, 6);
+
+        // Act
+        List<RecordedEvent> events = record(dir, () -> Utils.calculateTravelDuration(historic, centre));
+
+        // Assert
+        assertTrue(named(events, "workerService.CalculateTravelDuration").isEmpty(),
+                "Invalid input should not be recorded as a journey.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test events are not recorded when disabled")
+    void testRun_RecordingDisabled_RecordsNothing(@TempDir Path dir) throws IOException {
+        // Arrange
+        Path file = dir.resolve("disabled.jfr");
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = centres();
+
+        // Act
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_NAMES) {
+                recording.disable(name);
+            }
+            recording.start();
+            ScenarioRunner.run(historic, centres);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        for (String name : EVENT_NAMES) {
+            assertTrue(named(events, name).isEmpty(), name + " should not be recorded while disabled.");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelinedMakespanTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test processing overlaps with later deliveries")
+    void testGetMakespan_SlowProcessing_OverlapsDeliveries() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        Recycling centre = new Alpha(Location.A, 12); // 1-hour trips, 20 hours to process each load
+
+        // Act
+        double duration = Utils.calculatePipelinedDuration(historic, centre);
+
+        // Assert
+        assertEquals(5001.0, duration, 1e-9, "Processing should start when the first load arrives after 1 hour.");
+    }
+
+    @Test
+    @DisplayName("Test the centre waits for deliveries when processing is fast")
+    void testAccept_FastProcessing_WaitsForArrivals() {
+        // Arrange
+        PipelinedMakespan makespan = new PipelinedMakespan(new RateTable(100.0, 100.0, 100.0));
+
+        // Act
+        makespan.accept(2.0, 10.0, 10.0, 0.0); // 0.2 hours to process
+        makespan.accept(4.0, 10.0, 10.0, 0.0);
+
+        // Assert
+        assertEquals(4.2, makespan.getMakespan(), 1e-9, "The centre should finish shortly after the last arrival.");
+        assertEquals(2, makespan.getLoads(), "Two loads should have been fed in.");
+    }
+
+    @Test
+    @DisplayName("Test pipelining is never slower than delivering everything first")
+    void testCalculatePipelinedDuration_NeverSlowerThanSerial() {
+        // Arrange
+        Recycling centre = new Gamma(Location.B, 4);
+        Historic historic = new Historic(Location.A, 12000.0);
+        double serial = Utils.calculateTravelDuration(new Historic(Location.A, 12000.0), centre)
+                + Utils.calculateProcessDuration(historic, centre);
+
+        // Act
+        double pipelined = Utils.calculatePipelinedDuration(historic, centre);
+
+        // Assert
+        assertTrue(pipelined <= serial, "Overlapping travel and processing should not take longer.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test no loads gives a zero makespan")
+    void testGetMakespan_NoLoads_ReturnsZero() {
+        // Act
+        PipelinedMakespan makespan = new PipelinedMakespan(RateTable.BETA);
+
+        // Assert
+        assertEquals(0.0, makespan.getMakespan(), "No loads should take no time.");
+    }
+
+    @Test
+    @DisplayName("Test less than one load returns -1 like the travel duration")
+    void testCalculatePipelinedDuration_BelowCapacity_ReturnsMinusOne() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 19.0);
+        Recycling centre = new Alpha(Location.A, 3);
+
+        // Act
+        double pipelined = Utils.calculatePipelinedDuration(historic, centre);
+
+        // Assert
+        assertEquals(-1.0, pipelined, "Less than one load of waste should be rejected.");
+        assertEquals(Utils.calculateTravelDuration(historic, centre), pipelined,
+                "Both durations should reject the same input.");
+    }
+}
@@ -0,0 +1,144 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioCacheTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test a repeated scenario is served from the cache")
+    void testRun_RepeatedScenario_Hit() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 12), new Beta(Location.B, 10));
+
+        // Act
+        ScenarioResult first = cache.run(new Historic(Location.A, 5000.0), centres);
+        Historic historic = new Historic(Location.A, 5000.0);
+        ScenarioResult second = cache.run(historic, centres);
+
+        // Assert
+        assertEquals(1, cache.getMissCount(), "The first run should miss.");
+        assertEquals(1, cache.getHitCount(), "The second run should hit.");
+        assertEquals(first.getTotalDuration(), second.getTotalDuration(), "A hit should give the same total duration.");
+        assertSame(historic, second.getHistoric(), "A hit should refer to the caller's historic site.");
+        assertEquals(5000.0, historic.getRemainingWaste(), "A hit should leave the historic site unchanged.");
+    }
+
+    @Test
+    @DisplayName("Test centre lists differing only in order and losing centres share a result")
+    void testRun_EquivalentCentreLists_Hit() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        Recycling winner = new Beta(Location.A, 4);
+        List<Recycling> centres = new ArrayList<>(List.of(new Alpha(Location.B, 2), winner));
+        List<Recycling> reordered = new ArrayList<>(List.of(new Beta(Location.A, 9), winner, new Alpha(Location.B, 2)));
+
+        // Act
+        cache.run(new Historic(Location.A, 1000.0), centres);
+        ScenarioResult result = cache.run(new Historic(Location.A, 1000.0), reordered);
+
+        // Assert
+        assertEquals(1, cache.getHitCount(), "The same fingerprint should hit.");
+        assertSame(winner, result.getOptimalCentre(), "The hit should pick the optimal centre from the caller's list.");
+    }
+
+    @Test
+    @DisplayName("Test cache hits match running the scenario directly")
+    void testRun_MatchesScenarioRunner() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        List<Recycling> centres = List.of(new Gamma(Location.B, 4), new Beta(Location.B, 4), new Alpha(Location.A, 1));
+        ScenarioResult expected = ScenarioRunner.run(new Historic(Location.B, 3000.0), centres);
+
+        // Act
+        cache.run(new Historic(Location.B, 3000.0), centres);
+        ScenarioResult result = cache.run(new Historic(Location.B, 3000.0), centres);
+
+        // Assert
+        assertSame(expected.getOptimalCentre(), result.getOptimalCentre(), "The cached optimal centre should match.");
+        assertEquals(expected.getTravelDuration(), result.getTravelDuration(), "The cached travel duration should match.");
+        assertEquals(expected.getProcessDuration(), result.getProcessDuration(), "The cached process duration should match.");
+    }
+
+    @Test
+    @DisplayName("Test every site of a configuration is run through the cache")
+    void testRunAll_SeveralSites_MatchesUncachedRun() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0),
+                List.of(new Alpha(Location.A, 12), new Beta(Location.B, 10)));
+        config.addHistoric(new Historic(Location.B, 3000.0));
+        MultiSiteResult expected = ScenarioRunner.runAll(config);
+
+        // Act
+        MultiSiteResult result = cache.runAll(config);
+
+        // Assert
+        assertEquals(2, result.getSiteResults().size(), "Every site should have a result.");
+        for (int site = 0; site < 2; site++) {
+            assertSame(expected.getSiteResults().get(site).getOptimalCentre(),
+                    result.getSiteResults().get(site).getOptimalCentre(), "Each site should get its own optimal centre.");
+        }
+        assertEquals(2, cache.getMissCount(), "Each site should be worked out once.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test least recently used results are evicted once full")
+    void testRun_BeyondCapacity_Evicts() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(16);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 12));
+
+        // Act
+        for (int waste = 1000; waste < 1200; waste++) {
+            cache.run(new Historic(Location.A, waste), centres);
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 16, "The cache should not grow beyond its maximum size.");
+        assertEquals(200 - cache.size(), cache.getEvictionCount(), "Every result that no longer fits should be counted as evicted.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test a scenario without viable centres is not cached")
+    void testRun_NoViableCentres_ThrowsException() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        List<Recycling> centres = List.of(new Alpha(Location.C, 1));
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> cache.run(new Historic(Location.A, 5000.0), centres),
+                "A scenario without viable centres should still fail.");
+        assertEquals(0, cache.size(), "Failures should not be cached.");
+    }
+
+    @Test
+    @DisplayName("Test a single result is refused for a configuration with several sites")
+    void testRun_SeveralSites_ThrowsException() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(64);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0),
+                List.of(new Alpha(Location.A, 12)));
+        config.addHistoric(new Historic(Location.B, 3000.0));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> cache.run(config),
+                "Only the first site would be answered, so the configuration should be refused.");
+    }
+
+    @Test
+    @DisplayName("Test a cache smaller than its segment count is rejected")
+    void testConstructor_TooSmall_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioCache(4), "A cache of 4 results should be rejected.");
+    }
+}
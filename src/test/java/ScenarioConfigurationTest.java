@@ -183,4 +183,186 @@ class ScenarioConfigurationTest {
         // Assert
         assertEquals(recyclingList, result, "Recycling list should be retrieved correctly.");
     }
-}
\ No newline at end of file
+
+    // Optimal Centre Maintenance Tests
+    @Test
+    @DisplayName("Optimal centre follows added and removed centres")
+    void testOptimalCentre_AddAndRemove_UpdatedIncrementally() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        config.setHistoric(new Historic(Location.A, 5000.0));
+        Recycling far = new Beta(Location.B, 3);
+        Recycling near = new Alpha(Location.A, 10);
+
+        // Act & Assert
+        config.addRecycling(far);
+        assertSame(far, config.getOptimalCentre(), "The only centre should be optimal.");
+
+        config.addRecycling(near);
+        assertSame(near, config.getOptimalCentre(), "The nearer centre should become optimal.");
+
+        assertTrue(config.removeRecycling(near), "The nearer centre should be removed.");
+        assertSame(far, config.getOptimalCentre(), "The remaining centre should be optimal again.");
+        assertEquals(1, config.getRecycling().size(), "Only one centre should remain in the list.");
+    }
+
+    @Test
+    @DisplayName("Listeners are only notified when the optimal centre changes")
+    void testOptimalCentreListener_OnlyNotifiedOnChange() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0), new ArrayList<>());
+        List<Recycling> notified = new ArrayList<>();
+        config.addOptimalCentreListener((historic, previous, current) -> notified.add(current));
+        Recycling optimal = new Alpha(Location.A, 2);
+
+        // Act
+        config.addRecycling(optimal);
+        config.addRecycling(new Beta(Location.B, 1)); // Further away, so the optimum is unchanged
+        config.addRecycling(new Alpha(Location.A, 9)); // Older, so the optimum is unchanged
+
+        // Assert
+        assertEquals(List.of(optimal), notified, "Only the first addition should change the optimal centre.");
+    }
+
+    @Test
+    @DisplayName("Removing a centre that was never added returns false")
+    void testRemoveRecycling_UnknownCentre_ReturnsFalse() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        config.addRecycling(new Alpha(Location.A, 5));
+
+        // Act
+        boolean removed = config.removeRecycling(new Alpha(Location.A, 5));
+
+        // Assert
+        assertFalse(removed, "A different centre instance should not be removed.");
+        assertEquals(1, config.getRecycling().size(), "The recycling list should be unchanged.");
+    }
+
+    // Multiple Historic Site Tests
+    @Test
+    @DisplayName("Adding historic sites keeps every site")
+    void testAddHistoric_MultipleSites_AllKept() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        Historic first = new Historic(Location.A, 5000.0);
+        Historic second = new Historic(Location.C, 2000.0);
+
+        // Act
+        config.addHistoric(first);
+        config.addHistoric(second);
+
+        // Assert
+        assertEquals(List.of(first, second), config.getHistorics(), "Both historic sites should be kept in order.");
+        assertEquals(first, config.getHistoric(), "The first historic site should be returned by getHistoric.");
+    }
+
+    @Test
+    @DisplayName("Each historic site has its own optimal centre")
+    void testGetOptimalCentre_PerHistoricSite() {
+        // Arrange
+        Recycling atA = new Alpha(Location.A, 5);
+        Recycling atC = new Beta(Location.C, 5);
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        config.addRecycling(atA);
+        config.addRecycling(atC);
+        Historic siteA = new Historic(Location.A, 5000.0);
+        Historic siteC = new Historic(Location.C, 5000.0);
+
+        // Act
+        config.addHistoric(siteA);
+        config.addHistoric(siteC);
+
+        // Assert
+        assertSame(atA, config.getOptimalCentre(siteA), "The site at A should use the centre at A.");
+        assertSame(atC, config.getOptimalCentre(siteC), "The site at C should use the centre at C.");
+    }
+
+    @Test
+    @DisplayName("The recycling list cannot be changed behind the optimal centre's back")
+    void testGetRecycling_Modified_ThrowsException() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0), new ArrayList<>());
+        config.addRecycling(new Beta(Location.B, 3));
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> config.getRecycling().add(new Alpha(Location.A, 1)),
+                "Centres should only be added through addRecycling.");
+        assertInstanceOf(Beta.class, config.getOptimalCentre(), "The optimal centre should be unchanged.");
+    }
+
+    @Test
+    @DisplayName("Changing the caller's list afterwards does not affect the configuration")
+    void testScenarioConfiguration_CallerListChanged_OptimalCentreUnchanged() {
+        // Arrange
+        Recycling beta = new Beta(Location.B, 3);
+        List<Recycling> centres = new ArrayList<>(List.of(beta));
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0), centres);
+
+        // Act
+        centres.add(new Alpha(Location.A, 1));
+
+        // Assert
+        assertEquals(List.of(beta), config.getRecycling(),
+                "The configuration should keep its own copy of the centres.");
+        assertSame(beta, config.getOptimalCentre(), "The centre added to the caller's list should not become optimal.");
+        assertSame(beta, ScenarioRunner.run(config).getOptimalCentre(),
+                "The run should agree with the optimal centre.");
+    }
+
+    @Test
+    @DisplayName("Removing a centre added twice removes the earliest occurrence")
+    void testRemoveRecycling_DuplicateCentre_RemovesEarliestOccurrence() {
+        // Arrange
+        Recycling alpha = new Alpha(Location.A, 4);
+        Recycling beta = new Beta(Location.B, 3);
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        config.addRecycling(alpha);
+        config.addRecycling(beta);
+        config.addRecycling(alpha);
+
+        // Act
+        boolean removed = config.removeRecycling(alpha);
+
+        // Assert
+        assertTrue(removed, "The centre should be removed.");
+        assertEquals(List.of(beta, alpha), config.getRecycling(), "The later occurrence should stay in its place.");
+    }
+
+    @Test
+    @DisplayName("Optimal centre is worked out again when the site's metallic waste changes")
+    void testOptimalCentre_MetallicWasteChanged_Updated() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0); // Contains metallic waste
+        Recycling gamma = new Gamma(Location.A, 1);
+        Recycling beta = new Beta(Location.A, 6);
+        ScenarioConfiguration config = new ScenarioConfiguration(historic, List.of(gamma, beta));
+        assertSame(gamma, config.getOptimalCentre(), "The Gamma centre should be optimal with metallic waste.");
+        List<Recycling> changes = new ArrayList<>();
+        config.addOptimalCentreListener((site, previous, current) -> changes.add(current));
+
+        // Act
+        historic.setMetallic(0.0);
+
+        // Assert
+        assertSame(beta, config.getOptimalCentre(), "Without metallic waste the Gamma centre should not be viable.");
+        assertEquals(List.of(beta), changes, "Listeners should hear about the new optimal centre.");
+    }
+
+    @Test
+    @DisplayName("Running a configuration uses its maintained optimal centre")
+    void testRun_Configuration_UsesOptimalCentre() {
+        // Arrange
+        Recycling near = new Alpha(Location.A, 10);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0), new ArrayList<>());
+        config.addRecycling(new Beta(Location.B, 3));
+        config.addRecycling(near);
+
+        // Act
+        ScenarioResult result = ScenarioRunner.run(config);
+
+        // Assert
+        assertSame(config.getOptimalCentre(), result.getOptimalCentre(), "The run should use the maintained optimal centre.");
+        assertSame(near, result.getOptimalCentre(), "The nearer centre should be used.");
+    }
+}
@@ -0,0 +1,68 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioRunnerTest {
+
+    @Test
+    @DisplayName("Test running the worked example scenario")
+    void testRun_WorkedExample_ReturnsExpectedDurations() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.A, 12));
+        centres.add(new Beta(Location.B, 10));
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 5000.0), centres);
+
+        // Act
+        ScenarioResult result = ScenarioRunner.run(config);
+
+        // Assert
+        assertInstanceOf(Alpha.class, result.getOptimalCentre(), "The nearest Alpha centre should be chosen.");
+        assertEquals(250.0, result.getTravelDuration(), "Travel duration should be 250 hours.");
+        assertEquals(5000.0, result.getProcessDuration(), "Process duration should be 5000 hours.");
+        assertEquals(5250.0, result.getTotalDuration(), "Total duration should be 5250 hours.");
+    }
+
+    @Test
+    @DisplayName("Test minimum duration mode chooses the faster Beta centre")
+    void testRun_MinimumDuration_ChoosesFasterCentre() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.A, 12));
+        centres.add(new Beta(Location.B, 10));
+
+        // Act
+        ScenarioResult result = ScenarioRunner.run(new Historic(Location.A, 5000.0), centres, SelectionMode.MINIMUM_DURATION);
+
+        // Assert
+        assertInstanceOf(Beta.class, result.getOptimalCentre(), "The Beta centre should finish sooner.");
+        assertEquals(3833.33, result.getTotalDuration(), 0.01, "Total duration should be 500 + 3333.33 hours.");
+    }
+
+    @Test
+    @DisplayName("Test every historic site is evaluated against the shared centres")
+    void testRunAll_MultipleSites_ReportsPerSiteAndAggregate() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.A, 12));
+        centres.add(new Beta(Location.B, 10));
+        ScenarioConfiguration config = new ScenarioConfiguration(null, centres);
+        config.addHistoric(new Historic(Location.A, 5000.0));
+        config.addHistoric(new Historic(Location.B, 1000.0));
+
+        // Act
+        MultiSiteResult results = ScenarioRunner.runAll(config);
+
+        // Assert
+        assertEquals(2, results.getSiteResults().size(), "There should be a result for each historic site.");
+        assertInstanceOf(Beta.class, results.getSiteResults().get(1).getOptimalCentre(), "The site at B should use the Beta centre.");
+        assertEquals(5250.0 + 50.0 + 1000.0 / 1.5, results.getTotalDuration(), 1e-9, "The total should add up every site.");
+        assertEquals(5250.0, results.getLongestDuration(), "The longest site should be the one at A.");
+        assertEquals(2, centres.size(), "The shared centre list should not be modified.");
+    }
+}
@@ -0,0 +1,82 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripPlannerTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test countLoads rounds partial loads up")
+    void testCountLoads_PartialLoad_RoundsUp() {
+        // Act
+        long loads = TripPlanner.countLoads(25.0, 20.0);
+
+        // Assert
+        assertEquals(2, loads, "A partly filled last load should still count as a load.");
+    }
+
+    @Test
+    @DisplayName("Test countLoads with exact multiple of capacity")
+    void testCountLoads_ExactMultiple_ReturnsQuotient() {
+        // Act
+        long loads = TripPlanner.countLoads(5000.0, 20.0);
+
+        // Assert
+        assertEquals(250, loads, "5000 m3 should need exactly 250 loads of 20 m3.");
+    }
+
+    @Test
+    @DisplayName("Test per-type loads follow the metallic, plastic/glass, paper fill order")
+    void testCountTypedLoads_AboveThreshold_SplitsByFillOrder() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0); // 1000 metallic, 1500 plastic/glass, 2500 paper
+
+        // Act
+        long metallic = TripPlanner.countMetallicLoads(historic, 20.0);
+        long plasticGlass = TripPlanner.countPlasticGlassLoads(historic, 20.0);
+        long paper = TripPlanner.countPaperLoads(historic, 20.0);
+
+        // Assert
+        assertEquals(50, metallic, "Metallic waste should fill 50 loads.");
+        assertEquals(75, plasticGlass, "Plastic/glass waste should fill 75 loads.");
+        assertEquals(125, paper, "Paper waste should fill 125 loads.");
+    }
+
+    @Test
+    @DisplayName("Test a load shared between two waste types counts for both")
+    void testCountTypedLoads_SharedLoad_CountedForBothTypes() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1251.0); // 250.2 metallic, 375.3 plastic/glass, 625.5 paper
+
+        // Act
+        long metallic = TripPlanner.countMetallicLoads(historic, 20.0);
+        long plasticGlass = TripPlanner.countPlasticGlassLoads(historic, 20.0);
+
+        // Assert
+        assertEquals(13, metallic, "Metallic waste should span 13 loads.");
+        assertEquals(20, plasticGlass, "Plastic/glass waste should span 20 loads, including the one shared with metallic.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test countLoads with no waste returns zero")
+    void testCountLoads_NoWaste_ReturnsZero() {
+        // Act
+        long loads = TripPlanner.countLoads(0.0, 20.0);
+
+        // Assert
+        assertEquals(0, loads, "No waste should need no loads.");
+    }
+
+    @Test
+    @DisplayName("Test travel duration is loads multiplied by journey time")
+    void testTravelDuration_ReturnsLoadsTimesJourney() {
+        // Act
+        double duration = TripPlanner.travelDuration(250, 2.0);
+
+        // Assert
+        assertEquals(500.0, duration, "250 loads at 2 hours each should take 500 hours.");
+    }
+}
@@ -0,0 +1,116 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripScheduleTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test schedule has one trip per load")
+    void testTripSchedule_Size_MatchesLoadCount() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+
+        // Act
+        TripSchedule schedule = Utils.scheduleTrips(historic, new Beta(Location.B, 3));
+
+        // Assert
+        assertEquals(250, schedule.size(), "5000 m3 should be scheduled as 250 trips.");
+    }
+
+    @Test
+    @DisplayName("Test trips are timed back to back")
+    void testTripSchedule_Iterator_YieldsBackToBackTrips() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        TripSchedule schedule = Utils.scheduleTrips(historic, new Beta(Location.B, 3)); // 2-hour travel
+
+        // Act
+        Iterator<Trip> trips = schedule.iterator();
+        Trip first = trips.next();
+        Trip second = trips.next();
+
+        // Assert
+        assertEquals(0.0, first.getDepartureTime(), "The first trip should depart at time 0.");
+        assertEquals(2.0, first.getArrivalTime(), "The first trip should arrive after 2 hours.");
+        assertEquals(first.getArrivalTime(), second.getDepartureTime(), "The next trip should depart when the previous one arrives.");
+    }
+
+    @Test
+    @DisplayName("Test a load spanning two waste types carries both")
+    void testTripSchedule_Get_SharedLoadCarriesBothTypes() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1251.0); // 250.2 metallic, 375.3 plastic/glass, 625.5 paper
+        TripSchedule schedule = Utils.scheduleTrips(historic, new Beta(Location.B, 3));
+
+        // Act
+        Trip shared = schedule.get(12);
+
+        // Assert
+        assertEquals(10.2, shared.getMetallicWaste(), 1e-9, "The shared load should carry the last of the metallic waste.");
+        assertEquals(9.8, shared.getPlasticGlassWaste(), 1e-9, "The shared load should be topped up with plastic/glass waste.");
+        assertEquals(20.0, shared.getTotalWaste(), 1e-9, "The shared load should be full.");
+    }
+
+    @Test
+    @DisplayName("Test parallel stream moves all of the waste")
+    void testTripSchedule_ParallelStream_MovesAllWaste() {
+        // Arrange
+        Historic historic = new Historic(Location.C, 1_000_000.0);
+        TripSchedule schedule = Utils.scheduleTrips(historic, new Gamma(Location.B, 3));
+
+        // Act
+        double moved = schedule.parallelStream().mapToDouble(Trip::getTotalWaste).sum();
+
+        // Assert
+        assertEquals(1_000_000.0, moved, 1e-6, "All of the waste should be moved across the trips.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test last trip carries the remainder")
+    void testTripSchedule_Get_LastTripCarriesRemainder() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 25.0);
+        TripSchedule schedule = Utils.scheduleTrips(historic, new Alpha(Location.A, 3));
+
+        // Act
+        Trip last = schedule.get(schedule.size() - 1);
+
+        // Assert
+        assertEquals(5.0, last.getTotalWaste(), 1e-9, "The last trip should carry the remaining 5 m3.");
+    }
+
+    @Test
+    @DisplayName("Test spliterator splits into sized halves")
+    void testTripSchedule_Spliterator_SplitsEvenly() {
+        // Arrange
+        TripSchedule schedule = Utils.scheduleTrips(new Historic(Location.A, 4000.0), new Alpha(Location.A, 3));
+        Spliterator<Trip> suffix = schedule.spliterator();
+
+        // Act
+        Spliterator<Trip> prefix = suffix.trySplit();
+
+        // Assert
+        assertNotNull(prefix, "A 200 trip schedule should be splittable.");
+        assertEquals(100, prefix.estimateSize(), "The prefix should hold half of the trips.");
+        assertEquals(100, suffix.estimateSize(), "The suffix should hold the other half.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test out of range trip index throws exception")
+    void testTripSchedule_Get_OutOfRange_ThrowsException() {
+        // Arrange
+        TripSchedule schedule = Utils.scheduleTrips(new Historic(Location.A, 40.0), new Alpha(Location.A, 3));
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> schedule.get(2),
+                "Asking for a trip beyond the schedule should throw IndexOutOfBoundsException.");
+    }
+}
@@ -4,6 +4,7 @@ import models.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
@@ -175,6 +176,64 @@ class UtilsTest {
         assertTrue(viableCentres.stream().anyMatch(c -> c instanceof Beta), "Beta centre should be viable.");
         assertFalse(viableCentres.stream().anyMatch(c -> c instanceof Gamma), "Gamma centre should not be viable.");
     }
+
+    @Test
+    @DisplayName("Test viable centres leaves the candidate list unchanged")
+    void testFindViableCentres_SharedList_NotModified() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0); // No metallic waste
+        List<Recycling> centres = List.of(
+                new Alpha(Location.C, 7), // 4-hour travel (not viable)
+                new Gamma(Location.A, 2), // Not viable without metallic waste
+                new Beta(Location.B, 4));
+
+        // Act
+        List<Recycling> viableCentres = Utils.findViableCentres(historic, centres);
+
+        // Assert
+        assertEquals(3, centres.size(), "The candidate list should not be modified.");
+        assertEquals(1, viableCentres.size(), "Only the Beta centre should be viable.");
+        assertSame(centres.get(2), viableCentres.get(0), "The result should hold the candidate itself.");
+        assertThrows(UnsupportedOperationException.class, () -> viableCentres.remove(0), "The result should be read-only.");
+    }
+
+    @Test
+    @DisplayName("Test viable centres are unaffected by later changes to the candidate list")
+    void testFindViableCentres_CandidatesChangedAfterwards_ResultUnchanged() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0); // No metallic waste
+        Recycling alpha = new Alpha(Location.A, 3);
+        Recycling beta = new Beta(Location.B, 4);
+        List<Recycling> centres = new ArrayList<>(List.of(alpha, beta));
+        List<Recycling> viableCentres = Utils.findViableCentres(historic, centres);
+
+        // Act
+        centres.remove(0);
+
+        // Assert
+        assertEquals(2, viableCentres.size(), "Both centres should still be viable.");
+        assertSame(alpha, viableCentres.get(0), "The first viable centre should still be the Alpha centre.");
+        assertSame(beta, viableCentres.get(1), "The second viable centre should still be the Beta centre.");
+    }
+
+    @Test
+    @DisplayName("Test viable mask marks the positions of viable centres")
+    void testFindViableMask_MixedCentres_MarksViablePositions() {
+        // Arrange
+        Historic historic = new Historic(Location.C, 3000.0); // Contains metallic waste
+        List<Recycling> centres = List.of(
+                new Alpha(Location.A, 5), // 4-hour travel (not viable)
+                new Beta(Location.B, 6),  // 3-hour travel (viable)
+                new Gamma(Location.C, 8)); // 1-hour travel (viable)
+
+        // Act
+        BitSet viable = Utils.findViableMask(historic, centres);
+
+        // Assert
+        assertFalse(viable.get(0), "The Alpha centre should not be viable.");
+        assertTrue(viable.get(1), "The Beta centre should be viable.");
+        assertTrue(viable.get(2), "The Gamma centre should be viable.");
+    }
 // Unit tests for findViableCentres business logic [End]
     // =======================================================
 // Unit tests for findOptimalCentre business logic [Start]
@@ -319,6 +378,44 @@ class UtilsTest {
     }
 
 
+    @Test
+    @DisplayName("Test optimal viable centre matches filtering then selecting")
+    void testFindOptimalViableCentre_MatchesViableThenOptimal() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0); // No metallic waste
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Gamma(Location.A, 1)); // Nearest, but not viable without metallic waste
+        centres.add(new Alpha(Location.A, 6));
+        centres.add(new Beta(Location.A, 6));
+        centres.add(new Beta(Location.B, 2));
+
+        // Act
+        Recycling expected = Utils.findOptimalCentre(historic, Utils.findViableCentres(historic, new ArrayList<>(centres)));
+        Recycling optimalCentre = Utils.findOptimalViableCentre(historic, centres);
+
+        // Assert
+        assertSame(expected, optimalCentre, "The single pass should choose the same centre as the existing chain.");
+        assertSame(centres.get(2), optimalCentre, "The Beta centre at A should win the generation tie-break.");
+    }
+
+    @Test
+    @DisplayName("Test optimal viable centre leaves the candidate list unchanged")
+    void testFindOptimalViableCentre_DoesNotModifyCandidates() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.C, 4)); // 4-hour travel (not viable)
+        centres.add(new Gamma(Location.A, 2)); // Not viable without metallic waste
+
+        // Act
+        Recycling optimalCentre = Utils.findOptimalViableCentre(historic, centres);
+
+        // Assert
+        assertNull(optimalCentre, "No centre should be chosen when none are viable.");
+        assertEquals(2, centres.size(), "The candidate list should not be modified.");
+    }
+
+
     // Unit tests for findOptimalCentre business logic [End]
     // =======================================================
     // Unit tests for findNearestCentres business logic [Start]
@@ -466,7 +563,235 @@ class UtilsTest {
 
     // Unit tests for findNearestCentres business logic [End]
     // =======================================================
-    // Unit tests for findNearestCentres business logic [Start]
+    // Unit tests for findHighestGenerations and compareGenerations business logic [Start]
+
+    @Test
+    @DisplayName("Highest generations: Mixed generations returns only Gamma")
+    void testFindHighestGenerations_MixedGenerations_ReturnsGammaOnly() {
+        // Arrange
+        List<Recycling> candidateCentres = List.of(
+                new Alpha(Location.A, 5),
+                new Gamma(Location.B, 3),
+                new Beta(Location.C, 8),
+                new Gamma(Location.A, 9)
+        );
+
+        // Act
+        List<Recycling> highestGenerations = Utils.findHighestGenerations(candidateCentres);
+
+        // Assert
+        assertEquals(2, highestGenerations.size(), "Both Gamma centres should be returned.");
+        assertTrue(highestGenerations.stream().allMatch(c -> c instanceof Gamma), "Only Gamma centres should be returned.");
+    }
+
+    @Test
+    @DisplayName("Compare generations: Newer generation compares greater")
+    void testCompareGenerations_NewerGeneration_ReturnsPositive() {
+        // Assert
+        assertTrue(Utils.compareGenerations("Gamma", "Beta") > 0, "Gamma should compare greater than Beta.");
+        assertTrue(Utils.compareGenerations("Alpha", "Beta") < 0, "Alpha should compare less than Beta.");
+        assertEquals(0, Utils.compareGenerations("Beta", "Beta"), "Equal generations should compare equal.");
+    }
+
+    @Test
+    @DisplayName("Compare generations: Unknown generation ranks lowest")
+    void testCompareGenerations_UnknownGeneration_RanksBelowAlpha() {
+        // Assert
+        assertTrue(Utils.compareGenerations("Delta", "Alpha") < 0, "An unknown generation should rank below Alpha.");
+    }
+
+    // Unit tests for findHighestGenerations and compareGenerations business logic [End]
+    // =======================================================
+    // Unit tests for calculateTravelDuration business logic [Start]
+
+    @Test
+    @DisplayName("Travel duration: Full loads between A and B")
+    void testCalculateTravelDuration_FullLoads_ReturnsLoadsTimesJourney() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        Recycling centre = new Beta(Location.B, 3); // 2-hour travel
+
+        // Act
+        double travelDuration = Utils.calculateTravelDuration(historic, centre);
+
+        // Assert
+        assertEquals(500.0, travelDuration, "250 loads at 2 hours each should take 500 hours.");
+    }
+
+    @Test
+    @DisplayName("Travel duration: Partly filled last load completes")
+    void testCalculateTravelDuration_PartialLoad_Completes() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 25.0);
+        Recycling centre = new Beta(Location.B, 3); // 2-hour travel
+
+        // Act
+        double travelDuration = assertTimeoutPreemptively(java.time.Duration.ofSeconds(1),
+                () -> Utils.calculateTravelDuration(historic, centre));
+
+        // Assert
+        assertEquals(4.0, travelDuration, "Two loads at 2 hours each should take 4 hours.");
+    }
+
+    @Test
+    @DisplayName("Travel duration: Less than one load returns -1")
+    void testCalculateTravelDuration_BelowCapacity_ReturnsMinusOne() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 19.0);
+        Recycling centre = new Alpha(Location.A, 3);
+
+        // Act
+        double travelDuration = Utils.calculateTravelDuration(historic, centre);
+
+        // Assert
+        assertEquals(-1.0, travelDuration, "Less than one load of waste should be rejected.");
+    }
+
+    @Test
+    @DisplayName("Travel duration: Historic site can be evaluated again afterwards")
+    void testCalculateTravelDuration_CalledTwice_SameResult() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        Recycling centre = new Beta(Location.B, 3); // 2-hour travel
+
+        // Act
+        double first = Utils.calculateTravelDuration(historic, centre);
+        double second = Utils.calculateTravelDuration(historic, centre);
+
+        // Assert
+        assertEquals(first, second, "A second calculation should see the same waste.");
+        assertEquals(5000.0, historic.getRemainingWaste(), "The historic site should not be drained.");
+    }
+
+    @Test
+    @DisplayName("Travel and process duration: Snapshot matches the historic site")
+    void testCalculateDurations_Snapshot_MatchesHistoric() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        HistoricSnapshot snapshot = historic.snapshot();
+        Recycling centre = new Gamma(Location.B, 3);
+
+        // Act
+        double travelDuration = Utils.calculateTravelDuration(snapshot, centre);
+        double processDuration = Utils.calculateProcessDuration(snapshot, centre);
+
+        // Assert
+        assertEquals(Utils.calculateTravelDuration(historic, centre), travelDuration, "Travel duration should match.");
+        assertEquals(Utils.calculateProcessDuration(historic, centre), processDuration, "Process duration should match.");
+    }
+
+    @Test
+    @DisplayName("Travel duration: One snapshot evaluated against many centres in parallel")
+    void testCalculateTravelDuration_SharedSnapshot_Parallel() {
+        // Arrange
+        HistoricSnapshot snapshot = new Historic(Location.A, 5000.0).snapshot();
+        List<Recycling> centres = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            centres.add(new Beta(Location.B, 1 + i % 40)); // 2-hour travel
+        }
+
+        // Act
+        boolean allMatch = centres.parallelStream()
+                .allMatch(centre -> Utils.calculateTravelDuration(snapshot, centre) == 500.0);
+
+        // Assert
+        assertTrue(allMatch, "Every centre should see the full 5000 m3.");
+    }
+
+    // Unit tests for calculateTravelDuration business logic [End]
+    // =======================================================
+
+    // Unit tests for rankViableCentres business logic [Start]
+
+    @Test
+    @DisplayName("Ranking: Centres ordered by total duration with breakdown")
+    void testRankViableCentres_MixedCentres_OrderedByTotalDuration() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0); // Contains metallic waste
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.A, 2)); // 250 + 5000 hours
+        centres.add(new Gamma(Location.B, 9)); // 500 + 2333.33 hours
+        centres.add(new Beta(Location.A, 9));  // 250 + 3333.33 hours
+        centres.add(new Beta(Location.C, 1));  // 4-hour travel (not viable)
+
+        // Act
+        CentreRanking ranking = Utils.rankViableCentres(historic, centres, 10);
+
+        // Assert
+        List<RankedCentre> ranked = ranking.getRankedCentres();
+        assertEquals(3, ranked.size(), "Only the viable centres should be ranked.");
+        assertSame(centres.get(1), ranked.get(0).getCentre(), "The Gamma centre should be fastest overall.");
+        assertSame(centres.get(2), ranked.get(1).getCentre(), "The Beta centre should be second.");
+        assertSame(centres.get(0), ranked.get(2).getCentre(), "The Alpha centre should be last.");
+        assertEquals(500.0, ranked.get(0).getTravelDuration(), "Travel duration should be part of the breakdown.");
+        assertEquals(2333.33, ranked.get(0).getProcessDuration(), 0.01, "Process duration should be part of the breakdown.");
+        assertEquals(750.0, ranking.getRunnerUpGap(), 0.01, "The runner-up should take 750 hours longer.");
+    }
+
+    @Test
+    @DisplayName("Ranking: Only the best k centres are kept")
+    void testRankViableCentres_MoreThanK_KeepsBestK() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 3000.0);
+        List<Recycling> centres = new ArrayList<>();
+        for (int yearsActive = 20; yearsActive > 0; yearsActive--) {
+            centres.add(new Beta(Location.B, yearsActive));
+        }
+
+        // Act
+        CentreRanking ranking = Utils.rankViableCentres(historic, centres, 3);
+
+        // Assert
+        assertEquals(3, ranking.getRankedCentres().size(), "Three centres should be kept.");
+        assertEquals(1, ranking.getBest().getCentre().getYearsActive(), "Equal durations should prefer the least years active.");
+        assertEquals(0.0, ranking.getRunnerUpGap(), "Identical centres should have no gap.");
+    }
+
+    @Test
+    @DisplayName("Ranking: Best centre matches the optimal centre when durations tie")
+    void testRankViableCentres_TiedDurations_MatchesOptimalCentre() {
+        // Arrange
+        Historic historic = new Historic(Location.C, 1000.0); // No metallic waste
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Alpha(Location.C, 4));
+        centres.add(new Alpha(Location.C, 4));
+
+        // Act
+        CentreRanking ranking = Utils.rankViableCentres(historic, centres, 10);
+
+        // Assert
+        assertSame(Utils.findOptimalViableCentre(historic, centres), ranking.getBest().getCentre(),
+                "The earlier of two identical centres should rank first.");
+    }
+
+    @Test
+    @DisplayName("Ranking: No viable centres gives an empty ranking")
+    void testRankViableCentres_NoViableCentres_Empty() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+        List<Recycling> centres = List.of(new Alpha(Location.C, 4));
+
+        // Act
+        CentreRanking ranking = Utils.rankViableCentres(historic, centres, 10);
+
+        // Assert
+        assertNull(ranking.getBest(), "There should be no best centre.");
+        assertTrue(Double.isNaN(ranking.getRunnerUpGap()), "There should be no runner-up gap.");
+    }
+
+    @Test
+    @DisplayName("Ranking: k below one is rejected")
+    void testRankViableCentres_ZeroK_ThrowsException() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Utils.rankViableCentres(historic, List.of(), 0),
+                "k must be at least one.");
+    }
+
+    // Unit tests for rankViableCentres business logic [End]
+    // =======================================================
 
 
 
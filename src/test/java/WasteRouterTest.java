@@ -0,0 +1,98 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WasteRouterTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test a single centre serves every stream")
+    void testRoute_SingleCentre_ServesAllStreams() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0); // 1500 plastic/glass, 2500 paper, 1000 metallic
+        Recycling centre = new Alpha(Location.A, 12);
+
+        // Act
+        WasteRouting routing = WasteRouter.route(historic, List.of(centre));
+
+        // Assert
+        assertSame(centre, routing.getCentre(WasteType.PAPER), "Paper should go to the only centre.");
+        assertSame(centre, routing.getCentre(WasteType.METALLIC), "Metallic waste should go to the only centre.");
+        assertEquals(125.0 + 5000.0, routing.getMakespan(), "Processing should start when the largest stream (125 loads) has arrived.");
+    }
+
+    @Test
+    @DisplayName("Test streams are split over centres to finish sooner")
+    void testRoute_SeveralGammaCentres_SplitsStreams() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+        List<Recycling> centres = new ArrayList<>();
+        centres.add(new Gamma(Location.A, 3));
+        centres.add(new Gamma(Location.A, 5));
+        centres.add(new Gamma(Location.B, 1));
+
+        // Act
+        WasteRouting routing = WasteRouter.route(historic, centres);
+
+        // Assert
+        double singleCentre = ScenarioRunner.run(historic, centres, SelectionMode.MINIMUM_DURATION).getTotalDuration();
+        assertTrue(routing.getMakespan() < singleCentre, "Routing streams separately should beat the best single centre.");
+        assertNotSame(routing.getCentre(WasteType.PAPER), routing.getCentre(WasteType.PLASTIC_GLASS),
+                "The two largest streams should be processed at different centres.");
+    }
+
+    @Test
+    @DisplayName("Test the same route is chosen every time")
+    void testRoute_RepeatedCalls_SameRouting() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 8000.0);
+        List<Recycling> centres = new ArrayList<>();
+        for (int yearsActive = 1; yearsActive <= 30; yearsActive++) {
+            centres.add(new Beta(Location.B, yearsActive % 4 + 1));
+            centres.add(new Gamma(Location.A, yearsActive % 3 + 1));
+            centres.add(new Alpha(Location.C, yearsActive));
+        }
+
+        // Act
+        WasteRouting first = WasteRouter.route(historic, centres);
+        WasteRouting second = WasteRouter.route(historic, centres);
+
+        // Assert
+        assertEquals(first.getCentres(), second.getCentres(), "Ties should always be broken the same way.");
+        assertEquals(first.getMakespan(), second.getMakespan(), "The makespan should not change.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test a site without metallic waste routes only two streams")
+    void testRoute_NoMetallicWaste_TwoStreams() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000.0); // 500 plastic/glass, 500 paper
+
+        // Act
+        WasteRouting routing = WasteRouter.route(historic, List.of(new Beta(Location.A, 2), new Gamma(Location.A, 1)));
+
+        // Assert
+        assertNull(routing.getCentre(WasteType.METALLIC), "There is no metallic waste to route.");
+        assertEquals(2, routing.getCentres().size(), "Only two streams should be routed.");
+        assertInstanceOf(Beta.class, routing.getCentre(WasteType.PAPER), "Gamma is not viable without metallic waste.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test no viable centres throws an exception")
+    void testRoute_NoViableCentres_ThrowsException() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000.0);
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> WasteRouter.route(historic, List.of(new Alpha(Location.C, 1))),
+                "A site with no viable centres cannot be routed.");
+    }
+}
@@ -0,0 +1,95 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WasteSweepTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test sweep matches the Utils durations for every point")
+    void testEvaluate_RandomPoints_MatchesUtils() {
+        // Arrange
+        int points = 1001; // Not a multiple of any vector length, so the scalar tail is used too
+        SplittableRandom random = new SplittableRandom(7L);
+        Location[] locations = Location.values();
+        double[] initialWaste = new double[points];
+        int[] historicLocations = new int[points];
+        int[] centreLocations = new int[points];
+        int[] generations = new int[points];
+        for (int i = 0; i < points; i++) {
+            initialWaste[i] = random.nextInt(4) == 0 ? random.nextInt(2000) : random.nextDouble(0.0, 100_000.0);
+            historicLocations[i] = random.nextInt(3);
+            centreLocations[i] = random.nextInt(3);
+            generations[i] = random.nextInt(3);
+        }
+        double[] travelDurations = new double[points];
+        double[] processDurations = new double[points];
+
+        // Act
+        WasteSweep.evaluate(initialWaste, historicLocations, centreLocations, generations, travelDurations, processDurations);
+
+        // Assert
+        for (int i = 0; i < points; i++) {
+            Location location = locations[centreLocations[i]];
+            Recycling centre = generations[i] == 0 ? new Alpha(location, 5)
+                    : generations[i] == 1 ? new Beta(location, 5) : new Gamma(location, 5);
+            Historic historic = new Historic(locations[historicLocations[i]], initialWaste[i]);
+
+            assertEquals(Utils.calculateProcessDuration(historic, centre), processDurations[i], "Process duration should match at point " + i + ".");
+            assertEquals(Utils.calculateTravelDuration(historic, centre), travelDurations[i], "Travel duration should match at point " + i + ".");
+        }
+    }
+
+    @Test
+    @DisplayName("Test vector and scalar kernels give identical results")
+    void testEvaluate_VectorAndScalar_Identical() {
+        // Arrange
+        double[] initialWaste = {19.99, 20.0, 1250.0, 1250.5, 5000.0, 12345.6, 0.0, 99_999.9, 7.0};
+        int[] historicLocations = {0, 1, 2, 0, 0, 1, 2, 2, 1};
+        int[] centreLocations = {0, 2, 1, 1, 0, 1, 2, 0, 0};
+        int[] generations = {2, 1, 0, 2, 0, 2, 1, 0, 2};
+        double[] travelDurations = new double[initialWaste.length];
+        double[] processDurations = new double[initialWaste.length];
+        double[] expectedTravel = new double[initialWaste.length];
+        double[] expectedProcess = new double[initialWaste.length];
+
+        // Act
+        WasteSweep.evaluate(initialWaste, historicLocations, centreLocations, generations, travelDurations, processDurations);
+        WasteSweep.evaluateScalar(0, initialWaste.length, initialWaste, historicLocations, centreLocations, generations,
+                expectedTravel, expectedProcess);
+
+        // Assert
+        assertArrayEquals(expectedTravel, travelDurations, "Travel durations should not depend on the kernel.");
+        assertArrayEquals(expectedProcess, processDurations, "Process durations should not depend on the kernel.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test less than one full load gives -1 travel duration")
+    void testEvaluate_BelowOneLoad_ReturnsMinusOne() {
+        // Arrange
+        double[] travelDurations = new double[1];
+        double[] processDurations = new double[1];
+
+        // Act
+        WasteSweep.evaluate(new double[]{19.0}, new int[]{0}, new int[]{0}, new int[]{0}, travelDurations, processDurations);
+
+        // Assert
+        assertEquals(-1.0, travelDurations[0], "Less than 20 m3 should give -1, as calculateTravelDuration does.");
+        assertEquals(19.0, processDurations[0], "19 m3 at 1 m3 per hour should take 19 hours.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test arrays of different lengths are rejected")
+    void testEvaluate_MismatchedLengths_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> WasteSweep.evaluate(
+                new double[2], new int[2], new int[1], new int[2], new double[2], new double[2]),
+                "Arrays of different lengths should be rejected.");
+    }
+}
@@ -0,0 +1,48 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test generations are ordered oldest to newest")
+    void testGeneration_Ordinals_OldestToNewest() {
+        // Assert
+        assertTrue(Generation.ALPHA.ordinal() < Generation.BETA.ordinal(), "Alpha should rank below Beta.");
+        assertTrue(Generation.BETA.ordinal() < Generation.GAMMA.ordinal(), "Beta should rank below Gamma.");
+    }
+
+    @Test
+    @DisplayName("Test generation names match the centre generation strings")
+    void testGeneration_fromName_MatchesCentreGeneration() {
+        // Arrange
+        Recycling centre = new Gamma(Location.A, 5);
+
+        // Act
+        Generation generation = Generation.fromName(centre.getGeneration());
+
+        // Assert
+        assertEquals(centre.getGenerationType(), generation, "The generation name should map back to the centre's generation.");
+        assertEquals("Gamma", generation.toString(), "The generation should print as 'Gamma'.");
+    }
+
+    @Test
+    @DisplayName("Test each generation carries its rate table")
+    void testGeneration_getRateTable_ReturnsSharedTable() {
+        // Assert
+        assertSame(RateTable.BETA, new Beta(Location.B, 2).getRateTable(), "Beta centres should use the Beta rate table.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test unknown generation name returns null")
+    void testGeneration_fromName_Unknown_ReturnsNull() {
+        // Assert
+        assertNull(Generation.fromName("Gama"), "A misspelt generation should not be recognised.");
+        assertNull(Generation.fromName(null), "A null generation should not be recognised.");
+    }
+}
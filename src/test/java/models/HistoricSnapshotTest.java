@@ -0,0 +1,43 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoricSnapshotTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test snapshot copies the historic site's waste")
+    void testSnapshot_CopiesWaste() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 5000.0);
+
+        // Act
+        HistoricSnapshot snapshot = historic.snapshot();
+
+        // Assert
+        assertEquals(Location.B, snapshot.getLocation(), "Location should be copied.");
+        assertEquals(5000.0, snapshot.getRemainingWaste(), "Remaining waste should be copied.");
+        assertEquals(1500.0, snapshot.getPlasticGlass(), "Plastic/glass waste should be copied.");
+        assertEquals(2500.0, snapshot.getPaper(), "Paper waste should be copied.");
+        assertEquals(1000.0, snapshot.getMetallic(), "Metallic waste should be copied.");
+    }
+
+    @Test
+    @DisplayName("Test later changes to the historic site do not affect the snapshot")
+    void testSnapshot_HistoricChanged_SnapshotUnchanged() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000.0);
+        HistoricSnapshot snapshot = historic.snapshot();
+
+        // Act
+        historic.setRemainingWaste(0.0);
+        historic.setMetallic(0.0);
+
+        // Assert
+        assertEquals(2000.0, snapshot.getRemainingWaste(), "The snapshot should keep its remaining waste.");
+        assertEquals(400.0, snapshot.getMetallic(), "The snapshot should keep its metallic waste.");
+    }
+}
@@ -10,7 +10,7 @@ class LocationTest {
     // Positive Test Cases
     @Test
     @DisplayName("Test travel time between same locations")
-    void testLocation_travelTime_SameLocation_ReturnsZero() {
+    void testLocation_travelTime_SameLocation_ReturnsOne() {
         // Arrange
         Location location = Location.A;
 
@@ -18,7 +18,7 @@ class LocationTest {
         double travelTime = location.travelTime(location);
 
         // Assert
-        assertEquals(0.0, travelTime, "Travel time between the same locations should be 0.");
+        assertEquals(1.0, travelTime, "Travel time within the same location should be 1.0, as for Transport.");
     }
 
     @Test
@@ -0,0 +1,57 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateTableTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test Gamma rate table follows the documented plastic, metallic, paper rates")
+    void testRateTable_Gamma_RatesByWasteType() {
+        // Act
+        RateTable rates = new Gamma(Location.A, 5).getRateTable();
+
+        // Assert
+        assertEquals(1.5, rates.getRate(WasteType.PLASTIC_GLASS), "Gamma should process plastic/glass at 1.5.");
+        assertEquals(2.0, rates.getRate(WasteType.METALLIC), "Gamma should process metallic waste at 2.0.");
+        assertEquals(3.0, rates.getRate(WasteType.PAPER), "Gamma should process paper at 3.0.");
+    }
+
+    @Test
+    @DisplayName("Test centres of the same generation share one rate table")
+    void testRateTable_SameGeneration_SharedInstance() {
+        // Act
+        RateTable first = new Beta(Location.A, 5).getRateTable();
+        RateTable second = new Beta(Location.C, 12).getRateTable();
+
+        // Assert
+        assertSame(first, second, "Beta centres should share a single rate table.");
+    }
+
+    @Test
+    @DisplayName("Test process duration divides each volume by its rate")
+    void testRateTable_processDuration_SumsPerTypeDurations() {
+        // Arrange
+        RateTable rates = RateTable.GAMMA;
+
+        // Act
+        double duration = rates.processDuration(1500.0, 2500.0, 1000.0);
+
+        // Assert
+        assertEquals(1000.0 + 2500.0 / 3.0 + 500.0, duration, 1e-9, "Process duration should be the sum of volume / rate per type.");
+    }
+
+    // Boundary Test Cases
+    @Test
+    @DisplayName("Test process duration with no waste is zero")
+    void testRateTable_processDuration_NoWaste_ReturnsZero() {
+        // Act
+        double duration = RateTable.ALPHA.processDuration(0.0, 0.0, 0.0);
+
+        // Assert
+        assertEquals(0.0, duration, "No waste should take no time to process.");
+    }
+}
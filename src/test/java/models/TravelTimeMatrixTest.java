@@ -0,0 +1,71 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravelTimeMatrixTest {
+
+    // Positive Test Cases
+    @Test
+    @DisplayName("Test standard matrix is symmetric")
+    void testTravelTimeMatrix_Standard_IsSymmetric() {
+        // Arrange
+        TravelTimeMatrix matrix = TravelTimeMatrix.STANDARD;
+
+        // Act & Assert
+        for (Location from : Location.values()) {
+            for (Location to : Location.values()) {
+                assertEquals(matrix.between(from, to), matrix.between(to, from),
+                        "Travel time from " + from + " to " + to + " should match the return journey.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Location and Transport agree with the matrix")
+    void testTravelTimeMatrix_LocationAndTransport_Agree() {
+        // Act & Assert
+        for (Location from : Location.values()) {
+            for (Location to : Location.values()) {
+                double expected = TravelTimeMatrix.STANDARD.between(from, to);
+                assertEquals(expected, from.travelTime(to), "Location should use the matrix for " + from + " to " + to + ".");
+                assertEquals(expected, new Transport(from, to).getTravelTime(), "Transport should use the matrix for " + from + " to " + to + ".");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test travel within B takes one hour")
+    void testTravelTimeMatrix_WithinB_ReturnsOne() {
+        // Act
+        double travelTime = TravelTimeMatrix.STANDARD.between(Location.B, Location.B);
+
+        // Assert
+        assertEquals(1.0, travelTime, "Travel within B should take 1 hour, like any other location.");
+    }
+
+    @Test
+    @DisplayName("Test a custom matrix can be looked up by index")
+    void testTravelTimeMatrix_Custom_LookupByIndex() {
+        // Arrange
+        TravelTimeMatrix matrix = new TravelTimeMatrix(new double[][]{{1.0, 5.0}, {6.0, 1.0}});
+
+        // Act
+        double travelTime = matrix.between(1, 0);
+
+        // Assert
+        assertEquals(2, matrix.size(), "The matrix should cover 2 locations.");
+        assertEquals(6.0, travelTime, "The second row, first column should be returned.");
+    }
+
+    // Negative Test Cases
+    @Test
+    @DisplayName("Test non-square matrix is rejected")
+    void testTravelTimeMatrix_NotSquare_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TravelTimeMatrix(new double[][]{{1.0, 2.0}, {2.0}}),
+                "A non-square matrix should throw IllegalArgumentException.");
+    }
+}
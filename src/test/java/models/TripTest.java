@@ -0,0 +1,35 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripTest {
+
+    @Test
+    @DisplayName("Test Trip total waste is the sum of all waste types")
+    void testTrip_getTotalWaste_ReturnsSum() {
+        // Arrange
+        Trip trip = new Trip(0, Location.A, Location.B, 5.0, 10.0, 5.0, 0.0, 2.0);
+
+        // Act
+        double totalWaste = trip.getTotalWaste();
+
+        // Assert
+        assertEquals(20.0, totalWaste, "Total waste should be the sum of all waste types.");
+    }
+
+    @Test
+    @DisplayName("Test Trip keeps its timings")
+    void testTrip_Timings_ReturnedCorrectly() {
+        // Arrange
+        Trip trip = new Trip(3, Location.A, Location.C, 0.0, 0.0, 20.0, 12.0, 16.0);
+
+        // Assert
+        assertEquals(3, trip.getIndex(), "Index should be 3.");
+        assertEquals(12.0, trip.getDepartureTime(), "Departure time should be 12.");
+        assertEquals(16.0, trip.getArrivalTime(), "Arrival time should be 16.");
+        assertEquals(Location.C, trip.getEnd(), "End location should be C.");
+    }
+}